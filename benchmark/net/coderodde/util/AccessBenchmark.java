@@ -0,0 +1,175 @@
+package net.coderodde.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the non-structural operations: indexed access, iteration, linear
+ * search and bulk copying.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessBenchmark {
+
+    private static final int BATCH = 1024;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"0.0", "0.33", "0.5"})
+    private double rotation;
+
+    private RotableArrayList<Integer> rotableArrayList;
+    private ArrayList<Integer> arrayList;
+    private ArrayDeque<Integer> arrayDeque;
+    private RingBuffer<Integer> ringBuffer;
+    private int[] indices;
+    private final Integer value = 42;
+    private final Integer absent = -1;
+
+    @Setup
+    public void setup() {
+        rotableArrayList = Fixtures.rotableArrayList(size, rotation);
+        arrayList = Fixtures.arrayList(size, rotation);
+        arrayDeque = Fixtures.arrayDeque(size, rotation);
+        ringBuffer = Fixtures.ringBuffer(size, rotation);
+        indices = Fixtures.randomIndices(size, BATCH, 13L);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void rotableArrayListGet(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(rotableArrayList.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void arrayListGet(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(arrayList.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void ringBufferGet(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(ringBuffer.get(index));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void rotableArrayListSet(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(rotableArrayList.set(index, value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void arrayListSet(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(arrayList.set(index, value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void ringBufferSet(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(ringBuffer.set(index, value));
+        }
+    }
+
+    @Benchmark
+    public void rotableArrayListIterate(Blackhole blackhole) {
+        for (Integer element : rotableArrayList) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void arrayListIterate(Blackhole blackhole) {
+        for (Integer element : arrayList) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void arrayDequeIterate(Blackhole blackhole) {
+        for (Integer element : arrayDeque) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void ringBufferIterate(Blackhole blackhole) {
+        for (int index = 0; index < ringBuffer.size(); ++index) {
+            blackhole.consume(ringBuffer.get(index));
+        }
+    }
+
+    @Benchmark
+    public int rotableArrayListIndexOf() {
+        return rotableArrayList.indexOf(absent);
+    }
+
+    @Benchmark
+    public int arrayListIndexOf() {
+        return arrayList.indexOf(absent);
+    }
+
+    @Benchmark
+    public boolean arrayDequeContains() {
+        return arrayDeque.contains(absent);
+    }
+
+    @Benchmark
+    public int ringBufferIndexOf() {
+        return ringBuffer.indexOf(absent);
+    }
+
+    @Benchmark
+    public Object[] rotableArrayListToArray() {
+        return rotableArrayList.toArray();
+    }
+
+    @Benchmark
+    public Object[] arrayListToArray() {
+        return arrayList.toArray();
+    }
+
+    @Benchmark
+    public Object[] arrayDequeToArray() {
+        return arrayDeque.toArray();
+    }
+
+    @Benchmark
+    public Object[] ringBufferToArray() {
+        return ringBuffer.toArray();
+    }
+}
@@ -0,0 +1,155 @@
+package net.coderodde.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures pushing and popping at the ends. Each benchmark pairs a push with
+ * a pop so that the size stays fixed across invocations. The first structural
+ * operation settles the rotated {@code RotableArrayList} fixture, so the plain
+ * benchmarks measure a settled ring whatever the rotation. The
+ * {@code rotate...} benchmarks re-apply the rotation in every invocation and
+ * thus include the cost of settling.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EndOperationsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"0.0", "0.33", "0.5"})
+    private double rotation;
+
+    private RotableArrayList<Integer> rotableArrayList;
+    private ArrayList<Integer> arrayList;
+    private ArrayDeque<Integer> arrayDeque;
+    private RingBuffer<Integer> ringBuffer;
+    private final Integer value = 42;
+    private int offset;
+
+    @Setup
+    public void setup() {
+        offset = Fixtures.offset(size, rotation);
+        rotableArrayList = Fixtures.rotableArrayList(size, rotation);
+        arrayList = Fixtures.arrayList(size, rotation);
+        arrayDeque = Fixtures.arrayDeque(size, rotation);
+        ringBuffer = Fixtures.ringBuffer(size, rotation);
+    }
+
+    @Benchmark
+    public Integer rotableArrayListPushPopFront() {
+        rotableArrayList.add(0, value);
+        return rotableArrayList.remove(0);
+    }
+
+    @Benchmark
+    public Integer arrayListPushPopFront() {
+        arrayList.add(0, value);
+        return arrayList.remove(0);
+    }
+
+    @Benchmark
+    public Integer arrayDequePushPopFront() {
+        arrayDeque.addFirst(value);
+        return arrayDeque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer ringBufferPushPopFront() {
+        ringBuffer.addFirst(value);
+        return ringBuffer.removeFirst();
+    }
+
+    @Benchmark
+    public Integer rotableArrayListPushPopBack() {
+        rotableArrayList.add(value);
+        return rotableArrayList.remove(rotableArrayList.size() - 1);
+    }
+
+    @Benchmark
+    public Integer arrayListPushPopBack() {
+        arrayList.add(value);
+        return arrayList.remove(arrayList.size() - 1);
+    }
+
+    @Benchmark
+    public Integer arrayDequePushPopBack() {
+        arrayDeque.addLast(value);
+        return arrayDeque.pollLast();
+    }
+
+    @Benchmark
+    public Integer ringBufferPushPopBack() {
+        ringBuffer.addLast(value);
+        return ringBuffer.removeLast();
+    }
+
+    @Benchmark
+    public Integer rotableArrayListOfferPoll() {
+        rotableArrayList.add(value);
+        return rotableArrayList.remove(0);
+    }
+
+    @Benchmark
+    public Integer arrayListOfferPoll() {
+        arrayList.add(value);
+        return arrayList.remove(0);
+    }
+
+    @Benchmark
+    public Integer arrayDequeOfferPoll() {
+        arrayDeque.addLast(value);
+        return arrayDeque.pollFirst();
+    }
+
+    @Benchmark
+    public Integer ringBufferOfferPoll() {
+        ringBuffer.addLast(value);
+        return ringBuffer.removeFirst();
+    }
+
+    @Benchmark
+    public Integer rotableArrayListRotatePollOffer() {
+        rotableArrayList.rotate(offset);
+        Integer element = rotableArrayList.pollFirst();
+        rotableArrayList.addLast(element);
+        return element;
+    }
+
+    @Benchmark
+    public Integer arrayListRotatePollOffer() {
+        Collections.rotate(arrayList, offset);
+        Integer element = arrayList.remove(0);
+        arrayList.add(element);
+        return element;
+    }
+
+    @Benchmark
+    public Integer ringBufferRotatePollOffer() {
+        ringBuffer.rotate(offset);
+        Integer element = ringBuffer.removeFirst();
+        ringBuffer.addLast(element);
+        return element;
+    }
+}
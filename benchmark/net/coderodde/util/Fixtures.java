@@ -0,0 +1,81 @@
+package net.coderodde.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class builds the equally populated and equally rotated collections
+ * compared in the benchmarks.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+final class Fixtures {
+
+    private Fixtures() {}
+
+    static int offset(int size, double rotation) {
+        return (int) (size * rotation);
+    }
+
+    static RotableArrayList<Integer> rotableArrayList(int size,
+                                                      double rotation) {
+        RotableArrayList<Integer> list = new RotableArrayList<>();
+
+        for (int i = 0; i < size; ++i) {
+            list.add(i);
+        }
+
+        list.rotate(offset(size, rotation));
+        return list;
+    }
+
+    static ArrayList<Integer> arrayList(int size, double rotation) {
+        ArrayList<Integer> list = new ArrayList<>(size);
+
+        for (int i = 0; i < size; ++i) {
+            list.add(i);
+        }
+
+        Collections.rotate(list, offset(size, rotation));
+        return list;
+    }
+
+    static ArrayDeque<Integer> arrayDeque(int size, double rotation) {
+        return new ArrayDeque<>(arrayList(size, rotation));
+    }
+
+    static RingBuffer<Integer> ringBuffer(int size, double rotation) {
+        RingBuffer<Integer> ring = new RingBuffer<>();
+
+        for (Integer element : arrayList(size, rotation)) {
+            ring.addLast(element);
+        }
+
+        return ring;
+    }
+
+    static int[] randomIndices(int size, int count, long seed) {
+        Random random = new Random(seed);
+        int[] indices = new int[count];
+
+        for (int i = 0; i < count; ++i) {
+            indices[i] = random.nextInt(size);
+        }
+
+        return indices;
+    }
+
+    static List<Integer> range(int fromInclusive, int toExclusive) {
+        List<Integer> list = new ArrayList<>(toExclusive - fromInclusive);
+
+        for (int i = fromInclusive; i < toExclusive; ++i) {
+            list.add(i);
+        }
+
+        return list;
+    }
+}
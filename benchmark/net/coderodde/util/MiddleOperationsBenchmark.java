@@ -0,0 +1,108 @@
+package net.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the structural operations in the middle of the list. Each
+ * benchmark undoes its own modification so that the size stays fixed across
+ * invocations. The first structural operation settles the rotated
+ * {@code RotableArrayList} fixture, so the plain benchmarks measure a settled
+ * ring whatever the rotation. The {@code rotate...} benchmarks re-apply the
+ * rotation in every invocation and thus include the cost of settling.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MiddleOperationsBenchmark {
+
+    private static final int CHUNK = 64;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"0.0", "0.33", "0.5"})
+    private double rotation;
+
+    private RotableArrayList<Integer> rotableArrayList;
+    private ArrayList<Integer> arrayList;
+    private List<Integer> chunk;
+    private int offset;
+
+    @Setup
+    public void setup() {
+        offset = Fixtures.offset(size, rotation);
+        rotableArrayList = Fixtures.rotableArrayList(size, rotation);
+        arrayList = Fixtures.arrayList(size, rotation);
+        chunk = Fixtures.range(0, CHUNK);
+    }
+
+    @Benchmark
+    public Integer rotableArrayListRemoveAddMiddle() {
+        int middle = size / 2;
+        Integer element = rotableArrayList.remove(middle);
+        rotableArrayList.add(middle, element);
+        return element;
+    }
+
+    @Benchmark
+    public Integer arrayListRemoveAddMiddle() {
+        int middle = size / 2;
+        Integer element = arrayList.remove(middle);
+        arrayList.add(middle, element);
+        return element;
+    }
+
+    @Benchmark
+    public int rotableArrayListAddAllMiddle() {
+        int middle = size / 2;
+        rotableArrayList.addAll(middle, chunk);
+        rotableArrayList.subList(middle, middle + CHUNK).clear();
+        return rotableArrayList.size();
+    }
+
+    @Benchmark
+    public int arrayListAddAllMiddle() {
+        int middle = size / 2;
+        arrayList.addAll(middle, chunk);
+        arrayList.subList(middle, middle + CHUNK).clear();
+        return arrayList.size();
+    }
+
+    @Benchmark
+    public Integer rotableArrayListRotateRemoveAddMiddle() {
+        int middle = size / 2;
+        rotableArrayList.rotate(offset);
+        Integer element = rotableArrayList.remove(middle);
+        rotableArrayList.add(middle, element);
+        return element;
+    }
+
+    @Benchmark
+    public Integer arrayListRotateRemoveAddMiddle() {
+        int middle = size / 2;
+        Collections.rotate(arrayList, offset);
+        Integer element = arrayList.remove(middle);
+        arrayList.add(middle, element);
+        return element;
+    }
+}
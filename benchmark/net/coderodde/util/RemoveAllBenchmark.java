@@ -0,0 +1,83 @@
+package net.coderodde.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures removing every other element via {@code removeAll}. The lists are
+ * rebuilt before each invocation, which is why the smallest sizes are left
+ * out: per-invocation setup would dominate them.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RemoveAllBenchmark {
+
+    @Param({"100000", "10000000"})
+    private int size;
+
+    @Param({"0.0", "0.33", "0.5"})
+    private double rotation;
+
+    private RotableArrayList<Integer> rotableArrayListTemplate;
+    private ArrayList<Integer> arrayListTemplate;
+    private Set<Integer> evens;
+
+    private RotableArrayList<Integer> rotableArrayList;
+    private ArrayList<Integer> arrayList;
+    private ArrayDeque<Integer> arrayDeque;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        rotableArrayListTemplate = Fixtures.rotableArrayList(size, rotation);
+        arrayListTemplate = Fixtures.arrayList(size, rotation);
+        evens = new HashSet<>();
+
+        for (int i = 0; i < size; i += 2) {
+            evens.add(i);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        rotableArrayList = rotableArrayListTemplate.clone();
+        arrayList = new ArrayList<>(arrayListTemplate);
+        arrayDeque = new ArrayDeque<>(arrayListTemplate);
+    }
+
+    @Benchmark
+    public boolean rotableArrayListRemoveAll() {
+        return rotableArrayList.removeAll(evens);
+    }
+
+    @Benchmark
+    public boolean arrayListRemoveAll() {
+        return arrayList.removeAll(evens);
+    }
+
+    @Benchmark
+    public boolean arrayDequeRemoveAll() {
+        return arrayDeque.removeAll(evens);
+    }
+}
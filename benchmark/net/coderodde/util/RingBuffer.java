@@ -0,0 +1,116 @@
+package net.coderodde.util;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a plain, hand-rolled circular buffer serving as the
+ * baseline in the benchmarks. Rotation moves elements one at a time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+final class RingBuffer<E> {
+
+    private Object[] storage = new Object[8];
+    private int head;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    E get(int index) {
+        checkIndex(index);
+        return (E) storage[(head + index) & (storage.length - 1)];
+    }
+
+    E set(int index, E element) {
+        checkIndex(index);
+        int position = (head + index) & (storage.length - 1);
+        E ret = (E) storage[position];
+        storage[position] = element;
+        return ret;
+    }
+
+    void addFirst(E element) {
+        ensureCapacity();
+        head = (head - 1) & (storage.length - 1);
+        storage[head] = element;
+        ++size;
+    }
+
+    void addLast(E element) {
+        ensureCapacity();
+        storage[(head + size) & (storage.length - 1)] = element;
+        ++size;
+    }
+
+    E removeFirst() {
+        checkIndex(0);
+        E ret = (E) storage[head];
+        storage[head] = null;
+        head = (head + 1) & (storage.length - 1);
+        --size;
+        return ret;
+    }
+
+    E removeLast() {
+        checkIndex(0);
+        int position = (head + size - 1) & (storage.length - 1);
+        E ret = (E) storage[position];
+        storage[position] = null;
+        --size;
+        return ret;
+    }
+
+    void rotate(int offset) {
+        if (size == 0) {
+            return;
+        }
+
+        int distance = offset % size;
+
+        if (distance < 0) {
+            distance += size;
+        }
+
+        for (int i = 0; i < distance; ++i) {
+            addFirst(removeLast());
+        }
+    }
+
+    int indexOf(Object o) {
+        for (int index = 0; index < size; ++index) {
+            if (o.equals(storage[(head + index) & (storage.length - 1)])) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    Object[] toArray() {
+        Object[] array = new Object[size];
+        int chunk = Math.min(size, storage.length - head);
+        System.arraycopy(storage, head, array, 0, chunk);
+        System.arraycopy(storage, 0, array, chunk, size - chunk);
+        return array;
+    }
+
+    private void ensureCapacity() {
+        if (size < storage.length) {
+            return;
+        }
+
+        Object[] newStorage = Arrays.copyOf(toArray(), 2 * storage.length);
+        storage = newStorage;
+        head = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "Bad index: " + index + ", size: " + size + ".");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package net.coderodde.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rotating by a single position and by a third of the size.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RotateBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private RotableArrayList<Integer> rotableArrayList;
+    private ArrayList<Integer> arrayList;
+    private ArrayDeque<Integer> arrayDeque;
+    private RingBuffer<Integer> ringBuffer;
+    private int third;
+
+    @Setup
+    public void setup() {
+        rotableArrayList = Fixtures.rotableArrayList(size, 0.0);
+        arrayList = Fixtures.arrayList(size, 0.0);
+        arrayDeque = Fixtures.arrayDeque(size, 0.0);
+        ringBuffer = Fixtures.ringBuffer(size, 0.0);
+        third = size / 3;
+    }
+
+    @Benchmark
+    public void rotableArrayListRotateByOne() {
+        rotableArrayList.rotate(1);
+    }
+
+    @Benchmark
+    public void arrayListRotateByOne() {
+        Collections.rotate(arrayList, 1);
+    }
+
+    @Benchmark
+    public void arrayDequeRotateByOne() {
+        arrayDeque.addFirst(arrayDeque.pollLast());
+    }
+
+    @Benchmark
+    public void ringBufferRotateByOne() {
+        ringBuffer.rotate(1);
+    }
+
+    @Benchmark
+    public void rotableArrayListRotateByThird() {
+        rotableArrayList.rotate(third);
+    }
+
+    @Benchmark
+    public void arrayListRotateByThird() {
+        Collections.rotate(arrayList, third);
+    }
+
+    @Benchmark
+    public void arrayDequeRotateByThird() {
+        for (int i = 0; i < third; ++i) {
+            arrayDeque.addFirst(arrayDeque.pollLast());
+        }
+    }
+
+    @Benchmark
+    public void ringBufferRotateByThird() {
+        ringBuffer.rotate(third);
+    }
+}
@@ -0,0 +1,744 @@
+package net.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class implements a thread-safe rotable list for workloads dominated by
+ * readers. Writers, including {@link #rotate(int)}, serialize on the write
+ * mode of a {@link StampedLock}. Readers take an optimistic stamp, read the
+ * ring state and the requested elements without locking and validate the
+ * stamp afterwards; only a reader that overlapped a writer retries under the
+ * read lock. Since rotation merely moves the finger, it holds the write lock
+ * for a constant amount of time.
+ * <p>
+ * The iterators of this list traverse a snapshot taken at the time of their
+ * creation: they never throw
+ * {@link java.util.ConcurrentModificationException} and do not support
+ * modification. The bulk operations, such as {@link #removeIf(Predicate)} and
+ * {@link #sort(Comparator)}, do not go through the iterators: each of them
+ * modifies the ring in place under a single write lock. The functions passed
+ * to them run under that lock and must not access this list.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+public class ConcurrentRotableList<E> extends AbstractList<E>
+        implements RotableList<E>, RandomAccess {
+
+    /**
+     * The default capacity of the circular buffer. Must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The largest capacity of the circular buffer.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * The circular buffer. Its length is always a power of two.
+     */
+    private Object[] storage;
+
+    /**
+     * The index of the first ring element in {@code storage}.
+     */
+    private int head;
+
+    /**
+     * The number of elements in this list.
+     */
+    private int size;
+
+    /**
+     * The logical element at index {@code i} is the ring element at index
+     * {@code (i + finger) % size}.
+     */
+    private int finger;
+
+    public ConcurrentRotableList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentRotableList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "The initial capacity is negative: " +
+                    initialCapacity + ".");
+        }
+
+        storage = new Object[capacityFor(initialCapacity)];
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = this.size;
+
+        if (lock.validate(stamp)) {
+            return size;
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return this.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] storage = this.storage;
+        int size = this.size;
+        // The masking keeps the read within the array even if the fields are
+        // mutually inconsistent; the stamp tells whether they were not.
+        Object element = storage[physicalIndex(storage, head, size, finger,
+                                               index)];
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+
+            try {
+                checkAccessIndex(index, this.size);
+                return (E) this.storage[physicalIndex(this.storage,
+                                                      head,
+                                                      this.size,
+                                                      finger,
+                                                      index)];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        checkAccessIndex(index, size);
+        return (E) element;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            checkAccessIndex(index, size);
+            int position = physicalIndex(storage, head, size, finger, index);
+            E ret = (E) storage[position];
+            storage[position] = element;
+            return ret;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            settle();
+            ensureCapacity(size + 1);
+            storage[(head + size) & (storage.length - 1)] = element;
+            ++size;
+            ++modCount;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            checkAdditionIndex(index, size);
+            settle();
+            ensureCapacity(size + 1);
+            int mask = storage.length - 1;
+
+            if (index < size - index) {
+                // Shift the prefix one position to the left.
+                int newHead = (head - 1) & mask;
+                moveElements(head, newHead, index);
+                head = newHead;
+            } else {
+                // Shift the suffix one position to the right.
+                int position = (head + index) & mask;
+                moveElements(position, (position + 1) & mask, size - index);
+            }
+
+            storage[(head + index) & mask] = element;
+            ++size;
+            ++modCount;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        // Copy before locking, 'c' may be this list or a view of it.
+        Object[] array = c.toArray();
+
+        if (array.length == 0) {
+            return false;
+        }
+
+        long stamp = lock.writeLock();
+
+        try {
+            insertAll(size, array);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Object[] array = c.toArray();
+        long stamp = lock.writeLock();
+
+        try {
+            checkAdditionIndex(index, size);
+
+            if (array.length == 0) {
+                return false;
+            }
+
+            insertAll(index, array);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+
+        try {
+            checkRemovalIndex(index, size);
+            settle();
+            int mask = storage.length - 1;
+            int position = (head + index) & mask;
+            E ret = (E) storage[position];
+
+            if (index < size - index - 1) {
+                // Shift the prefix one position to the right.
+                moveElements(head, (head + 1) & mask, index);
+                storage[head] = null;
+                head = (head + 1) & mask;
+            } else {
+                // Shift the suffix one position to the left.
+                moveElements((position + 1) & mask,
+                             position,
+                             size - index - 1);
+                storage[(head + size - 1) & mask] = null;
+            }
+
+            --size;
+            ++modCount;
+            return ret;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+
+        try {
+            Arrays.fill(storage, null);
+            head = 0;
+            size = 0;
+            finger = 0;
+            ++modCount;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+
+        try {
+            return removeMatching(filter);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        // Copy before locking: 'c' may be this list or a view of it, and
+        // querying it under the write lock would deadlock.
+        Set<?> set = new HashSet<>(c);
+        return removeIf(set::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Set<?> set = new HashSet<>(c);
+        return removeIf(e -> !set.contains(e));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        long stamp = lock.writeLock();
+
+        try {
+            for (int i = 0; i < size; ++i) {
+                int position = physicalIndex(storage, head, size, finger, i);
+                storage[position] = operator.apply((E) storage[position]);
+            }
+
+            ++modCount;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc} Sorts the buffer in place under the write lock.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        long stamp = lock.writeLock();
+
+        try {
+            settle();
+            makeContiguous();
+            Arrays.sort((E[]) storage, head, head + size, c);
+            ++modCount;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+
+        try {
+            checkRange(fromIndex, toIndex, size);
+            int length = toIndex - fromIndex;
+
+            if (length == 0) {
+                return;
+            }
+
+            settle();
+            int mask = storage.length - 1;
+
+            if (fromIndex < size - toIndex) {
+                // Shift the prefix 'length' positions to the right.
+                moveElements(head, (head + length) & mask, fromIndex);
+                clearElements(head, length);
+                head = (head + length) & mask;
+            } else {
+                // Shift the suffix 'length' positions to the left.
+                moveElements((head + toIndex) & mask,
+                             (head + fromIndex) & mask,
+                             size - toIndex);
+                clearElements((head + size - length) & mask, length);
+            }
+
+            size -= length;
+            ++modCount;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc} The view takes the lock for each element access
+     * separately, so its bulk operations and its rotation are not atomic.
+     */
+    @Override
+    public RotableList<E> subList(int fromIndex, int toIndex) {
+        return new RotableSubListView<>(super.subList(fromIndex, toIndex));
+    }
+
+    /**
+     * {@inheritDoc} Holds the write lock for a constant amount of time.
+     */
+    @Override
+    public void rotate(int offset) {
+        long stamp = lock.writeLock();
+
+        try {
+            if (size == 0) {
+                return;
+            }
+
+            finger -= offset % size;
+            finger %= size;
+
+            if (finger < 0) {
+                finger += size;
+            }
+
+            if (size == storage.length) {
+                // The ring is full so settling is a mere head adjustment.
+                settle();
+            }
+
+            ++modCount;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the elements of this list in logical order as they were at some
+     * moment during the call.
+     *
+     * @return a snapshot of this list.
+     */
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            Object[] storage = this.storage;
+            int head = this.head;
+            int size = this.size;
+            int finger = this.finger;
+
+            // Validate the fields before using them for copying so that the
+            // copy cannot run off the array.
+            if (lock.validate(stamp)) {
+                Object[] ret = copyElements(storage, head, size, finger);
+
+                if (lock.validate(stamp)) {
+                    return ret;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return copyElements(storage, head, size, finger);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        List<E> snapshot = (List<E>) Arrays.asList(toArray());
+        return Collections.unmodifiableList(snapshot).listIterator(index);
+    }
+
+    /**
+     * Moves the ring elements so that the logical element at index 0 becomes
+     * the first ring element, and resets the finger. Must be called while
+     * holding the write lock.
+     */
+    private void settle() {
+        if (finger == 0) {
+            return;
+        }
+
+        int mask = storage.length - 1;
+
+        if (size == storage.length) {
+            head = (head + finger) & mask;
+        } else if (finger <= size - finger) {
+            for (int i = 0; i < finger; ++i) {
+                storage[(head + size + i) & mask] = storage[(head + i) & mask];
+                storage[(head + i) & mask] = null;
+            }
+
+            head = (head + finger) & mask;
+        } else {
+            int count = size - finger;
+
+            for (int i = 1; i <= count; ++i) {
+                storage[(head - i) & mask] = storage[(head + size - i) & mask];
+                storage[(head + size - i) & mask] = null;
+            }
+
+            head = (head - count) & mask;
+        }
+
+        finger = 0;
+    }
+
+    /**
+     * Inserts the elements of {@code array} at the logical index
+     * {@code index}, moving the shorter side of the ring once. Must be
+     * called while holding the write lock.
+     */
+    private void insertAll(int index, Object[] array) {
+        int length = array.length;
+        settle();
+        ensureCapacity(size + length);
+        int mask = storage.length - 1;
+
+        if (index < size - index) {
+            // Shift the prefix 'length' positions to the left.
+            int newHead = (head - length) & mask;
+            moveElements(head, newHead, index);
+            head = newHead;
+        } else {
+            // Shift the suffix 'length' positions to the right.
+            int position = (head + index) & mask;
+            moveElements(position, (position + length) & mask, size - index);
+        }
+
+        int position = (head + index) & mask;
+
+        for (int i = 0; i < length; ++i) {
+            storage[(position + i) & mask] = array[i];
+        }
+
+        size += length;
+        ++modCount;
+    }
+
+    /**
+     * Removes the elements matching {@code filter} in a single pass that
+     * compacts the survivors towards the head of the ring. Must be called
+     * while holding the write lock.
+     */
+    private boolean removeMatching(Predicate<? super E> filter) {
+        settle();
+        int mask = storage.length - 1;
+        int read = 0;
+
+        // Skip the leading survivors, they stay where they are.
+        while (read < size && !filter.test((E) storage[(head + read) & mask])) {
+            ++read;
+        }
+
+        if (read == size) {
+            return false;
+        }
+
+        int write = read++;
+
+        try {
+            for (; read < size; ++read) {
+                Object element = storage[(head + read) & mask];
+
+                if (!filter.test((E) element)) {
+                    storage[(head + write++) & mask] = element;
+                }
+            }
+        } finally {
+            // Keep the unprocessed elements if the filter threw.
+            if (read < size) {
+                moveElements((head + read) & mask,
+                             (head + write) & mask,
+                             size - read);
+                write += size - read;
+            }
+
+            clearElements((head + write) & mask, size - write);
+            size = write;
+            ++modCount;
+        }
+
+        return true;
+    }
+
+    /**
+     * Moves a settled ring that wraps around the end of the buffer so that
+     * it starts at the physical index 0 and occupies a single contiguous run.
+     * Runs in time linear in the size of this list.
+     */
+    private void makeContiguous() {
+        int capacity = storage.length;
+
+        if (head + size <= capacity) {
+            return;
+        }
+
+        // Slide the run [head, capacity) left through the gap so that it
+        // directly follows the wrapped run [0, wrapped), then swap the two
+        // adjacent runs by three reversals.
+        int wrapped = head + size - capacity;
+        System.arraycopy(storage, head, storage, wrapped, capacity - head);
+        Arrays.fill(storage, Math.max(head, size), capacity, null);
+        reverseStorage(0, wrapped);
+        reverseStorage(wrapped, size);
+        reverseStorage(0, size);
+        head = 0;
+    }
+
+    private void reverseStorage(int from, int to) {
+        for (int i = from, j = to - 1; i < j; ++i, --j) {
+            Object tmp = storage[i];
+            storage[i] = storage[j];
+            storage[j] = tmp;
+        }
+    }
+
+    private void clearElements(int position, int length) {
+        int mask = storage.length - 1;
+
+        for (int i = 0; i < length; ++i) {
+            storage[(position + i) & mask] = null;
+        }
+    }
+
+    /**
+     * Moves {@code length} elements starting from {@code source} to the run
+     * of positions starting from {@code target}. The runs may wrap and
+     * overlap.
+     */
+    private void moveElements(int source, int target, int length) {
+        int mask = storage.length - 1;
+
+        if (((target - source) & mask) < length) {
+            for (int i = length - 1; i >= 0; --i) {
+                storage[(target + i) & mask] = storage[(source + i) & mask];
+            }
+        } else {
+            for (int i = 0; i < length; ++i) {
+                storage[(target + i) & mask] = storage[(source + i) & mask];
+            }
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= storage.length) {
+            return;
+        }
+
+        // Called only on a settled ring.
+        Object[] newStorage = new Object[capacityFor(minCapacity)];
+        int firstLength = Math.min(size, storage.length - head);
+        System.arraycopy(storage, head, newStorage, 0, firstLength);
+        System.arraycopy(storage, 0, newStorage, firstLength,
+                         size - firstLength);
+        storage = newStorage;
+        head = 0;
+    }
+
+    private static Object[] copyElements(Object[] storage,
+                                         int head,
+                                         int size,
+                                         int finger) {
+        Object[] ret = new Object[size];
+
+        for (int i = 0; i < size; ++i) {
+            ret[i] = storage[physicalIndex(storage, head, size, finger, i)];
+        }
+
+        return ret;
+    }
+
+    private static int physicalIndex(Object[] storage,
+                                     int head,
+                                     int size,
+                                     int finger,
+                                     int index) {
+        int ringIndex = index + finger;
+
+        if (ringIndex >= size) {
+            ringIndex -= size;
+        }
+
+        return (head + ringIndex) & (storage.length - 1);
+    }
+
+    private static int capacityFor(int minCapacity) {
+        if (minCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException(
+                    "The requested capacity is too large: " +
+                    minCapacity + ".");
+        }
+
+        return Math.max(DEFAULT_CAPACITY,
+                        Integer.highestOneBit(minCapacity - 1) << 1);
+    }
+
+    private static void checkAccessIndex(int index, int size) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is negative: " + index + ".");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private static void checkAdditionIndex(int index, int size) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is negative: " + index + ".");
+        }
+
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The starting index is negative: " + fromIndex + ".");
+        }
+
+        if (toIndex > size) {
+            throw new IndexOutOfBoundsException(
+                    "The ending index is too large: " + toIndex + ". " +
+                    "The size of the list is " + size + ".");
+        }
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException(
+                    "The starting index " + fromIndex + " is larger than " +
+                    "the ending index " + toIndex + ".");
+        }
+    }
+
+    private static void checkRemovalIndex(int index, int size) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is negative: " + index + ".");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package net.coderodde.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * This class releases the memory of direct and mapped byte buffers without
+ * waiting for the garbage collector, whenever the JVM makes it possible.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+final class DirectBuffers {
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner",
+                                                  ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // No explicit release available: leave the buffers to the GC.
+            unsafe = null;
+            invokeCleaner = null;
+        }
+
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() {}
+
+    /**
+     * Releases the memory of {@code buffers}. None of the buffers may be used
+     * afterwards.
+     *
+     * @param buffers the direct buffers to release.
+     */
+    static void release(ByteBuffer... buffers) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+
+        for (ByteBuffer buffer : buffers) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (ReflectiveOperationException ex) {
+                // Leave the buffer to the GC.
+            }
+        }
+    }
+}
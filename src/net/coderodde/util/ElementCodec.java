@@ -0,0 +1,97 @@
+package net.coderodde.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface defines the API for encoding elements of a fixed byte width
+ * into a {@link ByteBuffer} and decoding them back.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Returns the number of bytes each encoded element occupies.
+     *
+     * @return the width of an encoded element.
+     */
+    public int elementSize();
+
+    /**
+     * Writes {@code element} to {@code buffer} starting from the absolute
+     * byte offset {@code offset}. Must write at most {@link #elementSize()}
+     * bytes and must not touch the position or the limit of the buffer.
+     *
+     * @param element the element to encode.
+     * @param buffer  the target buffer.
+     * @param offset  the byte offset of the element.
+     */
+    public void encode(E element, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads the element stored in {@code buffer} starting from the absolute
+     * byte offset {@code offset}.
+     *
+     * @param buffer the source buffer.
+     * @param offset the byte offset of the element.
+     * @return the decoded element.
+     */
+    public E decode(ByteBuffer buffer, int offset);
+
+    public static final ElementCodec<Integer> INTEGER =
+            new ElementCodec<Integer>() {
+
+        @Override
+        public int elementSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer element, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+
+        @Override
+        public int elementSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    public static final ElementCodec<Double> DOUBLE =
+            new ElementCodec<Double>() {
+
+        @Override
+        public int elementSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double element, ByteBuffer buffer, int offset) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+}
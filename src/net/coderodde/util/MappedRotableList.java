@@ -0,0 +1,648 @@
+package net.coderodde.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.zip.CRC32;
+
+/**
+ * This class implements a rotable list persisted in a memory-mapped file.
+ * Each element is encoded by an {@link ElementCodec} into a fixed number of
+ * bytes of a circular buffer, and a small header keeps the capacity, the head,
+ * the size and the finger of the ring. Reopening the file maps it in constant
+ * time and yields the same logical order. Rotation runs in constant time.
+ * <p>
+ * The header has two slots. Each update writes the slot not holding the
+ * latest state, together with a sequence number and a checksum, so a crash
+ * never leaves a torn header behind: reopening picks the valid slot with the
+ * largest sequence number. Rotations, pushes and pops at either end, growth
+ * and in-place {@code set} of elements no wider than eight bytes are thus
+ * crash-consistent. Operations that move elements (inserting or removing in
+ * the middle, and the first structural modification after rotating a list
+ * that is not full) are not.
+ * <p>
+ * With {@link SyncPolicy#EVERY_UPDATE} every update forces the elements and
+ * then the header to the storage device, so the list survives a system crash.
+ * With {@link SyncPolicy#MANUAL} the list survives a crash of the process, and
+ * the caller decides when to call {@link #sync()}.
+ * <p>
+ * This class does not permit {@code null} elements.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+public class MappedRotableList<E> extends AbstractList<E>
+        implements RotableList<E>, RandomAccess, AutoCloseable {
+
+    /**
+     * Specifies when the mapped file is forced to the storage device.
+     */
+    public enum SyncPolicy {
+
+        /**
+         * Only {@link MappedRotableList#sync()} and
+         * {@link MappedRotableList#close()} force the file.
+         */
+        MANUAL,
+
+        /**
+         * Every update forces the file before returning.
+         */
+        EVERY_UPDATE
+    }
+
+    private static final long MAGIC = 0x524f5441424c4531L; // "ROTABLE1"
+    private static final int VERSION = 1;
+
+    // The header layout: the magic, the version and the element size,
+    // followed by two slots of the ring state at SLOT_OFFSET.
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int ELEMENT_SIZE_OFFSET = 12;
+    private static final int SLOT_OFFSET = 16;
+    private static final int SLOT_BYTES = 32;
+    private static final int SLOT_CHECKSUMMED_BYTES = 24;
+    private static final int HEADER_BYTES = 128;
+
+    /**
+     * The default capacity of the circular buffer. Must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The largest capacity of the circular buffer.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The largest number of bytes in a single mapped page.
+     */
+    private static final int MAXIMUM_PAGE_BYTES = 1 << 30;
+
+    private final ElementCodec<E> codec;
+    private final int elementSize;
+    private final SyncPolicy syncPolicy;
+    private final FileChannel channel;
+
+    /**
+     * The slot {@code s} lives in the page {@code s >>> pageShift} at the byte
+     * offset {@code (s & pageMask) * elementSize}.
+     */
+    private final int pageShift;
+    private final int pageMask;
+
+    private MappedByteBuffer header;
+
+    /**
+     * The mapped pages of the circular buffer, or {@code null} once closed.
+     */
+    private MappedByteBuffer[] pages;
+
+    /**
+     * The sequence number of the latest header slot.
+     */
+    private long sequence;
+
+    /**
+     * The number of slots in the circular buffer. Always a power of two.
+     */
+    private int capacity;
+
+    /**
+     * The slot index of the first ring element.
+     */
+    private int head;
+
+    /**
+     * The number of elements in this list.
+     */
+    private int size;
+
+    /**
+     * The logical element at index {@code i} is the ring element at index
+     * {@code (i + finger) % size}.
+     */
+    private int finger;
+
+    /**
+     * Opens the list stored in {@code file}, or creates an empty one if the
+     * file is empty or does not exist.
+     *
+     * @param file       the backing file.
+     * @param codec      the element codec.
+     * @param syncPolicy the policy for forcing updates to the device.
+     * @throws IOException if the file cannot be mapped, or if it does not hold
+     *                     a valid list of elements of the codec's width.
+     */
+    public MappedRotableList(Path file,
+                             ElementCodec<E> codec,
+                             SyncPolicy syncPolicy) throws IOException {
+        this.codec = Objects.requireNonNull(codec, "The codec is null.");
+        this.syncPolicy = Objects.requireNonNull(syncPolicy,
+                                                 "The sync policy is null.");
+        this.elementSize = codec.elementSize();
+
+        if (elementSize <= 0 || elementSize > MAXIMUM_PAGE_BYTES) {
+            throw new IllegalArgumentException(
+                    "Bad element size: " + elementSize + ".");
+        }
+
+        int pageSlots = Integer.highestOneBit(MAXIMUM_PAGE_BYTES / elementSize);
+        this.pageShift = Integer.numberOfTrailingZeros(pageSlots);
+        this.pageMask = pageSlots - 1;
+        this.channel = FileChannel.open(file,
+                                        StandardOpenOption.CREATE,
+                                        StandardOpenOption.READ,
+                                        StandardOpenOption.WRITE);
+
+        try {
+            boolean created = channel.size() == 0;
+            header = channel.map(FileChannel.MapMode.READ_WRITE,
+                                 0,
+                                 HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (created) {
+                header.putLong(MAGIC_OFFSET, MAGIC);
+                header.putInt(VERSION_OFFSET, VERSION);
+                header.putInt(ELEMENT_SIZE_OFFSET, elementSize);
+                capacity = DEFAULT_CAPACITY;
+                pages = mapPages(capacity);
+                commit();
+                header.force();
+            } else {
+                readHeader();
+                pages = mapPages(capacity);
+            }
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        checkOpen();
+        checkAccessIndex(index);
+        int slot = physicalIndex(index);
+        return codec.decode(pages[slot >>> pageShift], offsetOf(slot));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.requireNonNull(element, "The element is null.");
+        checkOpen();
+        checkAccessIndex(index);
+        int slot = physicalIndex(index);
+        ByteBuffer page = pages[slot >>> pageShift];
+        int offset = offsetOf(slot);
+        E ret = codec.decode(page, offset);
+        codec.encode(element, page, offset);
+
+        if (syncPolicy == SyncPolicy.EVERY_UPDATE) {
+            forcePages();
+        }
+
+        return ret;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.requireNonNull(element, "The element is null.");
+        checkOpen();
+        checkAdditionIndex(index);
+        settle();
+        ensureCapacity(size + 1);
+        int mask = capacity - 1;
+        int newHead = head;
+
+        if (index < size - index) {
+            // Shift the prefix one position to the left.
+            newHead = (head - 1) & mask;
+            moveSlots(head, newHead, index);
+        } else {
+            // Shift the suffix one position to the right.
+            int slot = (head + index) & mask;
+            moveSlots(slot, (slot + 1) & mask, size - index);
+        }
+
+        int slot = (newHead + index) & mask;
+        codec.encode(element, pages[slot >>> pageShift], offsetOf(slot));
+        head = newHead;
+        ++size;
+        ++modCount;
+        commit();
+    }
+
+    @Override
+    public E remove(int index) {
+        checkOpen();
+        checkRemovalIndex(index);
+        settle();
+        int mask = capacity - 1;
+        int slot = (head + index) & mask;
+        E ret = codec.decode(pages[slot >>> pageShift], offsetOf(slot));
+
+        if (index < size - index - 1) {
+            // Shift the prefix one position to the right.
+            moveSlots(head, (head + 1) & mask, index);
+            head = (head + 1) & mask;
+        } else {
+            // Shift the suffix one position to the left.
+            moveSlots((slot + 1) & mask, slot, size - index - 1);
+        }
+
+        --size;
+        ++modCount;
+        commit();
+        return ret;
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        head = 0;
+        size = 0;
+        finger = 0;
+        ++modCount;
+        commit();
+    }
+
+    @Override
+    public RotableList<E> subList(int fromIndex, int toIndex) {
+        return new RotableSubListView<>(super.subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public void rotate(int offset) {
+        checkOpen();
+
+        if (size == 0) {
+            return;
+        }
+
+        finger -= offset % size;
+        finger %= size;
+
+        if (finger < 0) {
+            finger += size;
+        }
+
+        if (size == capacity) {
+            // The ring is full so settling is a mere head adjustment.
+            settle();
+        }
+
+        // Rotation changes the element at every index, so the iterators must
+        // notice it.
+        ++modCount;
+
+        commit();
+    }
+
+    /**
+     * Makes sure that the circular buffer can accommodate at least
+     * {@code minCapacity} elements without growing the file.
+     *
+     * @param minCapacity the requested minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+
+        if (minCapacity > capacity) {
+            grow(capacityFor(minCapacity));
+        }
+    }
+
+    /**
+     * Forces the elements and then the header to the storage device.
+     */
+    public void sync() {
+        checkOpen();
+        forcePages();
+        header.force();
+    }
+
+    /**
+     * Returns {@code true} if this list has been closed.
+     *
+     * @return {@code true} if closed.
+     */
+    public boolean isClosed() {
+        return pages == null;
+    }
+
+    /**
+     * Forces all the updates to the storage device, unmaps the file and closes
+     * it. Calling this method on a closed list has no effect.
+     *
+     * @throws IOException if closing the file fails.
+     */
+    @Override
+    public void close() throws IOException {
+        if (pages == null) {
+            return;
+        }
+
+        try {
+            sync();
+        } finally {
+            DirectBuffers.release(pages);
+            DirectBuffers.release(header);
+            pages = null;
+            header = null;
+            size = 0;
+            ++modCount;
+            channel.close();
+        }
+    }
+
+    private int physicalIndex(int index) {
+        int ringIndex = index + finger;
+
+        if (ringIndex >= size) {
+            ringIndex -= size;
+        }
+
+        return (head + ringIndex) & (capacity - 1);
+    }
+
+    private int offsetOf(int slot) {
+        return (slot & pageMask) * elementSize;
+    }
+
+    /**
+     * Writes the ring state to the header slot not holding the latest state.
+     * Under {@link SyncPolicy#EVERY_UPDATE} the elements are forced before the
+     * header so that the header never refers to unwritten elements.
+     */
+    private void commit() {
+        if (syncPolicy == SyncPolicy.EVERY_UPDATE) {
+            forcePages();
+        }
+
+        long nextSequence = sequence + 1;
+        int offset = slotOffset(nextSequence);
+        header.putLong(offset, nextSequence);
+        header.putInt(offset + 8, capacity);
+        header.putInt(offset + 12, head);
+        header.putInt(offset + 16, size);
+        header.putInt(offset + 20, finger);
+        header.putLong(offset + SLOT_CHECKSUMMED_BYTES, checksum(offset));
+
+        if (syncPolicy == SyncPolicy.EVERY_UPDATE) {
+            header.force();
+        }
+
+        sequence = nextSequence;
+    }
+
+    private void readHeader() throws IOException {
+        if (header.getLong(MAGIC_OFFSET) != MAGIC ||
+            header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Not a rotable list file.");
+        }
+
+        int storedElementSize = header.getInt(ELEMENT_SIZE_OFFSET);
+
+        if (storedElementSize != elementSize) {
+            throw new IOException(
+                    "The file stores elements of " + storedElementSize +
+                    " bytes, the codec encodes " + elementSize + " bytes.");
+        }
+
+        int latest = -1;
+
+        for (int i = 0; i < 2; ++i) {
+            int offset = SLOT_OFFSET + i * SLOT_BYTES;
+
+            if (header.getLong(offset + SLOT_CHECKSUMMED_BYTES) !=
+                    checksum(offset)) {
+                continue;
+            }
+
+            if (latest == -1 ||
+                    header.getLong(offset) > header.getLong(latest)) {
+                latest = offset;
+            }
+        }
+
+        if (latest == -1) {
+            throw new IOException("No valid header slot.");
+        }
+
+        sequence = header.getLong(latest);
+        capacity = header.getInt(latest + 8);
+        head = header.getInt(latest + 12);
+        size = header.getInt(latest + 16);
+        finger = header.getInt(latest + 20);
+
+        if (Integer.bitCount(capacity) != 1 ||
+                capacity > MAXIMUM_CAPACITY ||
+                size < 0 || size > capacity ||
+                head < 0 || head >= capacity ||
+                finger < 0 || (finger > 0 && finger >= size) ||
+                channel.size() < HEADER_BYTES + (long) capacity * elementSize) {
+            throw new IOException("Corrupted header.");
+        }
+    }
+
+    private long checksum(int offset) {
+        byte[] bytes = new byte[SLOT_CHECKSUMMED_BYTES];
+
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = header.get(offset + i);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    private static int slotOffset(long sequence) {
+        return SLOT_OFFSET + (int) (sequence & 1) * SLOT_BYTES;
+    }
+
+    /**
+     * Moves the ring elements so that the logical element at index 0 becomes
+     * the first ring element, and resets the finger.
+     */
+    private void settle() {
+        if (finger == 0) {
+            return;
+        }
+
+        int mask = capacity - 1;
+
+        if (size == capacity) {
+            head = (head + finger) & mask;
+        } else if (finger <= size - finger) {
+            for (int i = 0; i < finger; ++i) {
+                copySlot((head + i) & mask, (head + size + i) & mask);
+            }
+
+            head = (head + finger) & mask;
+        } else {
+            int count = size - finger;
+
+            for (int i = 1; i <= count; ++i) {
+                copySlot((head + size - i) & mask, (head - i) & mask);
+            }
+
+            head = (head - count) & mask;
+        }
+
+        finger = 0;
+    }
+
+    /**
+     * Moves {@code length} slots starting from {@code source} to the run of
+     * slots starting from {@code target}. The runs may wrap and overlap.
+     */
+    private void moveSlots(int source, int target, int length) {
+        int mask = capacity - 1;
+
+        if (((target - source) & mask) < length) {
+            for (int i = length - 1; i >= 0; --i) {
+                copySlot((source + i) & mask, (target + i) & mask);
+            }
+        } else {
+            for (int i = 0; i < length; ++i) {
+                copySlot((source + i) & mask, (target + i) & mask);
+            }
+        }
+    }
+
+    private void copySlot(int sourceSlot, int targetSlot) {
+        ByteBuffer source = pages[sourceSlot >>> pageShift];
+        ByteBuffer target = pages[targetSlot >>> pageShift];
+        int sourceOffset = offsetOf(sourceSlot);
+        int targetOffset = offsetOf(targetSlot);
+        int i = 0;
+
+        for (; i + Long.BYTES <= elementSize; i += Long.BYTES) {
+            target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+        }
+
+        for (; i < elementSize; ++i) {
+            target.put(targetOffset + i, source.get(sourceOffset + i));
+        }
+    }
+
+    /**
+     * Grows the circular buffer in place. Only the slots beyond the old
+     * capacity are written before the header is committed, so a crash leaves
+     * the old ring intact.
+     */
+    private void grow(int newCapacity) {
+        MappedByteBuffer[] oldPages = pages;
+        pages = mapPages(newCapacity);
+        DirectBuffers.release(oldPages);
+
+        // The ring elements that wrapped around the old end move right past
+        // it; the others keep their slots.
+        int wrapped = head + size - capacity;
+
+        for (int i = 0; i < wrapped; ++i) {
+            copySlot(i, capacity + i);
+        }
+
+        capacity = newCapacity;
+        commit();
+    }
+
+    private MappedByteBuffer[] mapPages(int capacity) {
+        int pageSlots = Math.min(capacity, pageMask + 1);
+        long pageBytes = (long) pageSlots * elementSize;
+        MappedByteBuffer[] pages = new MappedByteBuffer[capacity / pageSlots];
+
+        try {
+            for (int i = 0; i < pages.length; ++i) {
+                pages[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                                       HEADER_BYTES + i * pageBytes,
+                                       pageBytes);
+                pages[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return pages;
+    }
+
+    private void forcePages() {
+        for (MappedByteBuffer page : pages) {
+            page.force();
+        }
+    }
+
+    private static int capacityFor(int minCapacity) {
+        if (minCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException(
+                    "The requested capacity is too large: " +
+                    minCapacity + ".");
+        }
+
+        return Math.max(DEFAULT_CAPACITY,
+                        Integer.highestOneBit(minCapacity - 1) << 1);
+    }
+
+    private void checkOpen() {
+        if (pages == null) {
+            throw new IllegalStateException("The list is closed.");
+        }
+    }
+
+    private void checkAccessIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is negative: " + index + ".");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private void checkAdditionIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is negative: " + index + ".");
+        }
+
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private void checkRemovalIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is negative: " + index + ".");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+}
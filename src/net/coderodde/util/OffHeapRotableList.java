@@ -0,0 +1,439 @@
+package net.coderodde.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * This class implements a rotable list that keeps its elements off the Java
+ * heap. Each element is encoded by an {@link ElementCodec} into a fixed number
+ * of bytes of a circular buffer made of direct {@link ByteBuffer} pages, so
+ * the heap footprint of the list does not depend on the number of elements.
+ * Rotation runs in constant time.
+ * <p>
+ * The memory is released by {@link #close()}; any further use of the list
+ * throws {@link IllegalStateException}. This class does not permit
+ * {@code null} elements.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+public class OffHeapRotableList<E> extends AbstractList<E>
+        implements RotableList<E>, RandomAccess, AutoCloseable {
+
+    /**
+     * The default capacity of the circular buffer. Must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The largest capacity of the circular buffer.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The largest number of bytes in a single page.
+     */
+    private static final int MAXIMUM_PAGE_BYTES = 1 << 30;
+
+    private final ElementCodec<E> codec;
+    private final int elementSize;
+
+    /**
+     * The slot {@code s} lives in the page {@code s >>> pageShift} at the byte
+     * offset {@code (s & pageMask) * elementSize}.
+     */
+    private final int pageShift;
+    private final int pageMask;
+
+    /**
+     * The pages of the circular buffer, or {@code null} once closed.
+     */
+    private ByteBuffer[] pages;
+
+    /**
+     * The number of slots in the circular buffer. Always a power of two.
+     */
+    private int capacity;
+
+    /**
+     * The slot index of the first ring element.
+     */
+    private int head;
+
+    /**
+     * The number of elements in this list.
+     */
+    private int size;
+
+    /**
+     * The logical element at index {@code i} is the ring element at index
+     * {@code (i + finger) % size}.
+     */
+    private int finger;
+
+    public OffHeapRotableList(ElementCodec<E> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    public OffHeapRotableList(ElementCodec<E> codec, int initialCapacity) {
+        this.codec = Objects.requireNonNull(codec, "The codec is null.");
+        this.elementSize = codec.elementSize();
+
+        if (elementSize <= 0 || elementSize > MAXIMUM_PAGE_BYTES) {
+            throw new IllegalArgumentException(
+                    "Bad element size: " + elementSize + ".");
+        }
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "The initial capacity is negative: " +
+                    initialCapacity + ".");
+        }
+
+        int pageSlots = Integer.highestOneBit(MAXIMUM_PAGE_BYTES / elementSize);
+        this.pageShift = Integer.numberOfTrailingZeros(pageSlots);
+        this.pageMask = pageSlots - 1;
+        this.capacity = capacityFor(initialCapacity);
+        this.pages = allocatePages(capacity);
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        checkOpen();
+        checkAccessIndex(index);
+        int slot = physicalIndex(index);
+        return codec.decode(pages[slot >>> pageShift], offsetOf(slot));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.requireNonNull(element, "The element is null.");
+        checkOpen();
+        checkAccessIndex(index);
+        int slot = physicalIndex(index);
+        ByteBuffer page = pages[slot >>> pageShift];
+        int offset = offsetOf(slot);
+        E ret = codec.decode(page, offset);
+        codec.encode(element, page, offset);
+        return ret;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.requireNonNull(element, "The element is null.");
+        checkOpen();
+        checkAdditionIndex(index);
+        settle();
+        ensureCapacity(size + 1);
+        int mask = capacity - 1;
+
+        if (index < size - index) {
+            // Shift the prefix one position to the left.
+            int newHead = (head - 1) & mask;
+            moveSlots(head, newHead, index);
+            head = newHead;
+        } else {
+            // Shift the suffix one position to the right.
+            int slot = (head + index) & mask;
+            moveSlots(slot, (slot + 1) & mask, size - index);
+        }
+
+        int slot = (head + index) & mask;
+        codec.encode(element, pages[slot >>> pageShift], offsetOf(slot));
+        ++size;
+        ++modCount;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkOpen();
+        checkRemovalIndex(index);
+        settle();
+        int mask = capacity - 1;
+        int slot = (head + index) & mask;
+        E ret = codec.decode(pages[slot >>> pageShift], offsetOf(slot));
+
+        if (index < size - index - 1) {
+            // Shift the prefix one position to the right.
+            moveSlots(head, (head + 1) & mask, index);
+            head = (head + 1) & mask;
+        } else {
+            // Shift the suffix one position to the left.
+            moveSlots((slot + 1) & mask, slot, size - index - 1);
+        }
+
+        --size;
+        ++modCount;
+        return ret;
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        head = 0;
+        size = 0;
+        finger = 0;
+        ++modCount;
+    }
+
+    @Override
+    public RotableList<E> subList(int fromIndex, int toIndex) {
+        return new RotableSubListView<>(super.subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public void rotate(int offset) {
+        checkOpen();
+
+        if (size == 0) {
+            return;
+        }
+
+        finger -= offset % size;
+        finger %= size;
+
+        if (finger < 0) {
+            finger += size;
+        }
+
+        if (size == capacity) {
+            // The ring is full so settling is a mere head adjustment.
+            settle();
+        }
+
+        // Rotation changes the element at every index, so the iterators must
+        // notice it.
+        ++modCount;
+    }
+
+    /**
+     * Makes sure that the circular buffer can accommodate at least
+     * {@code minCapacity} elements without resizing.
+     *
+     * @param minCapacity the requested minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+
+        if (minCapacity > capacity) {
+            resize(capacityFor(minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the circular buffer to the smallest power of two that can
+     * accommodate the current elements.
+     */
+    public void trimToSize() {
+        checkOpen();
+        int newCapacity = capacityFor(size);
+
+        if (newCapacity < capacity) {
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Returns {@code true} if this list has been closed.
+     *
+     * @return {@code true} if closed.
+     */
+    public boolean isClosed() {
+        return pages == null;
+    }
+
+    /**
+     * Releases the off-heap memory of this list. Calling this method on a
+     * closed list has no effect.
+     */
+    @Override
+    public void close() {
+        if (pages == null) {
+            return;
+        }
+
+        DirectBuffers.release(pages);
+        pages = null;
+        size = 0;
+        ++modCount;
+    }
+
+    private int physicalIndex(int index) {
+        int ringIndex = index + finger;
+
+        if (ringIndex >= size) {
+            ringIndex -= size;
+        }
+
+        return (head + ringIndex) & (capacity - 1);
+    }
+
+    private int offsetOf(int slot) {
+        return (slot & pageMask) * elementSize;
+    }
+
+    /**
+     * Moves the ring elements so that the logical element at index 0 becomes
+     * the first ring element, and resets the finger.
+     */
+    private void settle() {
+        if (finger == 0) {
+            return;
+        }
+
+        int mask = capacity - 1;
+
+        if (size == capacity) {
+            head = (head + finger) & mask;
+        } else if (finger <= size - finger) {
+            for (int i = 0; i < finger; ++i) {
+                copySlot((head + i) & mask, (head + size + i) & mask);
+            }
+
+            head = (head + finger) & mask;
+        } else {
+            int count = size - finger;
+
+            for (int i = 1; i <= count; ++i) {
+                copySlot((head + size - i) & mask, (head - i) & mask);
+            }
+
+            head = (head - count) & mask;
+        }
+
+        finger = 0;
+    }
+
+    /**
+     * Moves {@code length} slots starting from {@code source} to the run of
+     * slots starting from {@code target}. The runs may wrap and overlap.
+     */
+    private void moveSlots(int source, int target, int length) {
+        int mask = capacity - 1;
+
+        if (((target - source) & mask) < length) {
+            for (int i = length - 1; i >= 0; --i) {
+                copySlot((source + i) & mask, (target + i) & mask);
+            }
+        } else {
+            for (int i = 0; i < length; ++i) {
+                copySlot((source + i) & mask, (target + i) & mask);
+            }
+        }
+    }
+
+    private void copySlot(int sourceSlot, int targetSlot) {
+        copySlot(pages, sourceSlot, pages, targetSlot);
+    }
+
+    private void copySlot(ByteBuffer[] sourcePages,
+                          int sourceSlot,
+                          ByteBuffer[] targetPages,
+                          int targetSlot) {
+        ByteBuffer source = sourcePages[sourceSlot >>> pageShift];
+        ByteBuffer target = targetPages[targetSlot >>> pageShift];
+        int sourceOffset = offsetOf(sourceSlot);
+        int targetOffset = offsetOf(targetSlot);
+        int i = 0;
+
+        for (; i + Long.BYTES <= elementSize; i += Long.BYTES) {
+            target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+        }
+
+        for (; i < elementSize; ++i) {
+            target.put(targetOffset + i, source.get(sourceOffset + i));
+        }
+    }
+
+    private void resize(int newCapacity) {
+        settle();
+        ByteBuffer[] newPages = allocatePages(newCapacity);
+        int mask = capacity - 1;
+
+        for (int i = 0; i < size; ++i) {
+            copySlot(pages, (head + i) & mask, newPages, i);
+        }
+
+        DirectBuffers.release(pages);
+        pages = newPages;
+        capacity = newCapacity;
+        head = 0;
+    }
+
+    private ByteBuffer[] allocatePages(int capacity) {
+        int pageSlots = Math.min(capacity, pageMask + 1);
+        ByteBuffer[] pages = new ByteBuffer[capacity / pageSlots];
+
+        for (int i = 0; i < pages.length; ++i) {
+            pages[i] = ByteBuffer.allocateDirect(pageSlots * elementSize)
+                                 .order(ByteOrder.nativeOrder());
+        }
+
+        return pages;
+    }
+
+    private static int capacityFor(int minCapacity) {
+        if (minCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException(
+                    "The requested capacity is too large: " +
+                    minCapacity + ".");
+        }
+
+        return Math.max(DEFAULT_CAPACITY,
+                        Integer.highestOneBit(minCapacity - 1) << 1);
+    }
+
+    private void checkOpen() {
+        if (pages == null) {
+            throw new IllegalStateException("The list is closed.");
+        }
+    }
+
+    private void checkAccessIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is negative: " + index + ".");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private void checkAdditionIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is negative: " + index + ".");
+        }
+
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private void checkRemovalIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is negative: " + index + ".");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+}
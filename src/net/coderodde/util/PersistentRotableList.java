@@ -0,0 +1,478 @@
+package net.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * This class implements an immutable, persistent rotable list. The elements
+ * live in a height-balanced tree whose leaves are small arrays, and a finger
+ * tells which ring element is the logical element at index 0. Thus,
+ * {@link #rotated(int)} returns a new list sharing the whole tree in constant
+ * time, while {@link #with(int, Object)}, {@link #plus(int, Object)} and
+ * {@link #minus(int)} copy only the path to a single leaf and run in
+ * logarithmic time.
+ * <p>
+ * Instances are immutable and may be shared between threads without
+ * synchronization. The methods inherited from {@link java.util.List} that
+ * would modify the list throw {@link UnsupportedOperationException}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+public final class PersistentRotableList<E> extends AbstractList<E>
+        implements RandomAccess {
+
+    /**
+     * The largest number of elements in a leaf.
+     */
+    private static final int LEAF_CAPACITY = 32;
+
+    private static final PersistentRotableList<?> EMPTY =
+            new PersistentRotableList<>(null, 0);
+
+    /**
+     * The root of the tree, or {@code null} if this list is empty.
+     */
+    private final Node root;
+
+    /**
+     * The logical element at index {@code i} is the ring element at index
+     * {@code (i + finger) % size()}.
+     */
+    private final int finger;
+
+    private PersistentRotableList(Node root, int finger) {
+        this.root = root;
+        this.finger = finger;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @param <E> the element type.
+     * @return the empty list.
+     */
+    public static <E> PersistentRotableList<E> empty() {
+        return (PersistentRotableList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing the elements of {@code collection} in its
+     * iteration order. Runs in linear time.
+     *
+     * @param <E>        the element type.
+     * @param collection the elements of the new list.
+     * @return the new list.
+     */
+    public static <E> PersistentRotableList<E>
+        copyOf(Collection<? extends E> collection) {
+        Object[] elements = collection.toArray();
+
+        if (elements.length == 0) {
+            return empty();
+        }
+
+        int leafCount = (elements.length + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+        return new PersistentRotableList<>(
+                build(elements, 0, leafCount), 0);
+    }
+
+    @Override
+    public int size() {
+        return root == null ? 0 : root.size();
+    }
+
+    @Override
+    public E get(int index) {
+        checkAccessIndex(index);
+        return (E) root.get(ringIndex(index));
+    }
+
+    /**
+     * Returns this list rotated {@code offset} positions to the right: the
+     * element at index {@code i} moves to the index
+     * {@code (i + offset) mod size()}. Runs in constant time and shares all
+     * elements with this list.
+     *
+     * @param offset the rotation distance.
+     * @return the rotated list.
+     */
+    public PersistentRotableList<E> rotated(int offset) {
+        int size = size();
+
+        if (size == 0) {
+            return this;
+        }
+
+        int newFinger = (finger - offset % size) % size;
+
+        if (newFinger < 0) {
+            newFinger += size;
+        }
+
+        return newFinger == finger ?
+                this :
+                new PersistentRotableList<>(root, newFinger);
+    }
+
+    /**
+     * Returns a list that differs from this list only by having
+     * {@code element} at the index {@code index}.
+     *
+     * @param index   the index of the element to replace.
+     * @param element the new element.
+     * @return the updated list.
+     */
+    public PersistentRotableList<E> with(int index, E element) {
+        checkAccessIndex(index);
+        return new PersistentRotableList<>(
+                root.set(ringIndex(index), element), finger);
+    }
+
+    /**
+     * Returns this list with {@code element} appended.
+     *
+     * @param element the element to append.
+     * @return the extended list.
+     */
+    public PersistentRotableList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns this list with {@code element} inserted at the index
+     * {@code index}.
+     *
+     * @param index   the index of the new element.
+     * @param element the element to insert.
+     * @return the extended list.
+     */
+    public PersistentRotableList<E> plus(int index, E element) {
+        int size = size();
+        checkAdditionIndex(index, size);
+
+        if (root == null) {
+            return new PersistentRotableList<>(
+                    new Leaf(new Object[]{ element }), 0);
+        }
+
+        int ringIndex = index + finger;
+        int newFinger = finger;
+
+        if (ringIndex > size) {
+            // The position wrapped past the ring end, so the new element
+            // lands in front of the finger and pushes it forward.
+            ringIndex -= size;
+            ++newFinger;
+        }
+
+        return new PersistentRotableList<>(root.insert(ringIndex, element),
+                                           newFinger);
+    }
+
+    /**
+     * Returns this list without the element at the index {@code index}.
+     *
+     * @param index the index of the element to remove.
+     * @return the shrunk list.
+     */
+    public PersistentRotableList<E> minus(int index) {
+        checkAccessIndex(index);
+        int size = size();
+
+        if (size == 1) {
+            return empty();
+        }
+
+        int ringIndex = ringIndex(index);
+        int newFinger = ringIndex < finger ? finger - 1 : finger;
+
+        if (newFinger == size - 1) {
+            newFinger = 0;
+        }
+
+        return new PersistentRotableList<>(root.remove(ringIndex), newFinger);
+    }
+
+    @Override
+    public Object[] toArray() {
+        int size = size();
+        Object[] ring = new Object[size];
+
+        if (root != null) {
+            root.copyTo(ring, 0);
+        }
+
+        if (finger == 0) {
+            return ring;
+        }
+
+        Object[] ret = new Object[size];
+        System.arraycopy(ring, finger, ret, 0, size - finger);
+        System.arraycopy(ring, 0, ret, size - finger, finger);
+        return ret;
+    }
+
+    private int ringIndex(int index) {
+        int ringIndex = index + finger;
+        int size = root.size();
+        return ringIndex >= size ? ringIndex - size : ringIndex;
+    }
+
+    private static Node build(Object[] elements, int fromLeaf, int toLeaf) {
+        if (toLeaf - fromLeaf == 1) {
+            int from = fromLeaf * LEAF_CAPACITY;
+            int to = Math.min(elements.length, from + LEAF_CAPACITY);
+            Object[] leafElements = new Object[to - from];
+            System.arraycopy(elements, from, leafElements, 0, to - from);
+            return new Leaf(leafElements);
+        }
+
+        int middle = (fromLeaf + toLeaf) >>> 1;
+        return new Branch(build(elements, fromLeaf, middle),
+                          build(elements, middle, toLeaf));
+    }
+
+    private void checkAccessIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is negative: " + index + ".");
+        }
+
+        if (index >= size()) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is too large: " + index + ". " +
+                    "The size of the list is " + size() + ".");
+        }
+    }
+
+    private static void checkAdditionIndex(int index, int size) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is negative: " + index + ".");
+        }
+
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    /**
+     * A node of the tree. Nodes are never modified after construction.
+     */
+    private abstract static class Node {
+
+        abstract int size();
+
+        abstract int height();
+
+        abstract Object get(int index);
+
+        abstract Node set(int index, Object element);
+
+        abstract Node insert(int index, Object element);
+
+        /**
+         * Returns this node without the element at {@code index}, or
+         * {@code null} if that was the only element.
+         */
+        abstract Node remove(int index);
+
+        abstract void copyTo(Object[] target, int offset);
+    }
+
+    private static final class Leaf extends Node {
+
+        private final Object[] elements;
+
+        Leaf(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        int size() {
+            return elements.length;
+        }
+
+        @Override
+        int height() {
+            return 0;
+        }
+
+        @Override
+        Object get(int index) {
+            return elements[index];
+        }
+
+        @Override
+        Node set(int index, Object element) {
+            Object[] newElements = elements.clone();
+            newElements[index] = element;
+            return new Leaf(newElements);
+        }
+
+        @Override
+        Node insert(int index, Object element) {
+            int length = elements.length;
+            Object[] newElements = new Object[length + 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            newElements[index] = element;
+            System.arraycopy(elements, index,
+                             newElements, index + 1,
+                             length - index);
+
+            if (newElements.length <= LEAF_CAPACITY) {
+                return new Leaf(newElements);
+            }
+
+            // Split the overfull leaf in halves.
+            int half = newElements.length / 2;
+            Object[] left = new Object[half];
+            Object[] right = new Object[newElements.length - half];
+            System.arraycopy(newElements, 0, left, 0, half);
+            System.arraycopy(newElements, half, right, 0, right.length);
+            return new Branch(new Leaf(left), new Leaf(right));
+        }
+
+        @Override
+        Node remove(int index) {
+            int length = elements.length;
+
+            if (length == 1) {
+                return null;
+            }
+
+            Object[] newElements = new Object[length - 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            System.arraycopy(elements, index + 1,
+                             newElements, index,
+                             length - index - 1);
+            return new Leaf(newElements);
+        }
+
+        @Override
+        void copyTo(Object[] target, int offset) {
+            System.arraycopy(elements, 0, target, offset, elements.length);
+        }
+    }
+
+    private static final class Branch extends Node {
+
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Branch(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+            this.height = Math.max(left.height(), right.height()) + 1;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+
+        @Override
+        Object get(int index) {
+            Node node = this;
+
+            while (node instanceof Branch) {
+                Branch branch = (Branch) node;
+                int leftSize = branch.left.size();
+
+                if (index < leftSize) {
+                    node = branch.left;
+                } else {
+                    node = branch.right;
+                    index -= leftSize;
+                }
+            }
+
+            return node.get(index);
+        }
+
+        @Override
+        Node set(int index, Object element) {
+            int leftSize = left.size();
+
+            if (index < leftSize) {
+                return new Branch(left.set(index, element), right);
+            }
+
+            return new Branch(left, right.set(index - leftSize, element));
+        }
+
+        @Override
+        Node insert(int index, Object element) {
+            int leftSize = left.size();
+
+            if (index < leftSize) {
+                return balance(left.insert(index, element), right);
+            }
+
+            return balance(left, right.insert(index - leftSize, element));
+        }
+
+        @Override
+        Node remove(int index) {
+            int leftSize = left.size();
+
+            if (index < leftSize) {
+                Node newLeft = left.remove(index);
+                return newLeft == null ? right : balance(newLeft, right);
+            }
+
+            Node newRight = right.remove(index - leftSize);
+            return newRight == null ? left : balance(left, newRight);
+        }
+
+        @Override
+        void copyTo(Object[] target, int offset) {
+            left.copyTo(target, offset);
+            right.copyTo(target, offset + left.size());
+        }
+
+        /**
+         * Joins two subtrees whose heights differ by at most two, applying
+         * the AVL rotations to restore the balance.
+         */
+        private static Node balance(Node left, Node right) {
+            if (left.height() > right.height() + 1) {
+                Branch l = (Branch) left;
+
+                if (l.left.height() >= l.right.height()) {
+                    return new Branch(l.left, new Branch(l.right, right));
+                }
+
+                Branch lr = (Branch) l.right;
+                return new Branch(new Branch(l.left, lr.left),
+                                  new Branch(lr.right, right));
+            }
+
+            if (right.height() > left.height() + 1) {
+                Branch r = (Branch) right;
+
+                if (r.right.height() >= r.left.height()) {
+                    return new Branch(new Branch(left, r.left), r.right);
+                }
+
+                Branch rl = (Branch) r.left;
+                return new Branch(new Branch(left, rl.left),
+                                  new Branch(rl.right, r.right));
+            }
+
+            return new Branch(left, right);
+        }
+    }
+}
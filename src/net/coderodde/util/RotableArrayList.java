@@ -1,154 +1,412 @@
 package net.coderodde.util;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
- * This class implements a rotable list. Pushing to the front or the end of this
- * list runs in constant amortized time. Rotation runs in constant time.
+ * This class implements a rotable list. The elements are stored in a circular
+ * buffer whose capacity is always a power of two. Rotation runs in constant
+ * time, as it only moves a finger into the ring. The ring is brought in line
+ * with the finger lazily: the first structural modification after a rotation
+ * moves {@code min(k, n - k)} elements, where {@code n} is the size of this
+ * list and {@code k} the net rotation distance modulo {@code n}, unless the
+ * buffer is full, in which case it moves none. On a settled ring, pushing to
+ * or popping from the front or the end of this list runs in constant
+ * amortized time; alternating rotations with such operations thus costs up to
+ * {@code n / 2} moves per pair. Inserting or removing in the middle moves only
+ * the shorter side of the buffer, or, in the edit mode, only the elements
+ * between the edit and the previous one. The list doubles as a {@link Deque},
+ * whose operations at either end cost the same as the list operations above.
  * 
  * @author Rodion "rodde" Efremov
- * @version 1.6 (Mar 24, 2016)
+ * @version 2.0 (Oct 16, 2026)
  */
-public class RotableArrayList<E> extends ArrayList<E> {
+public class RotableArrayList<E> extends AbstractList<E>
+        implements RotableList<E>,
+                   Deque<E>,
+                   RandomAccess,
+                   Cloneable,
+                   Serializable {
 
-    private int finger;
+    private static final long serialVersionUID = 2016_03_24L;
+
+    /**
+     * The default capacity of the circular buffer. Must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The largest capacity of the circular buffer.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The smallest list size at which {@link #sort(Comparator)} switches to
+     * {@link Arrays#parallelSort(Object[], int, int, Comparator)}.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    /**
+     * The circular buffer. Its length is always a power of two.
+     */
+    private transient Object[] storage;
+
+    /**
+     * The physical index of the first ring element in {@code storage}.
+     */
+    private transient int head;
+
+    /**
+     * The number of elements in this list.
+     */
+    private int size;
+
+    /**
+     * The logical element at index {@code i} is the ring element at index
+     * {@code (i + finger) % size}. Rotations touch only this field; the ring is
+     * brought in line with the finger by {@link #settle()} prior to any
+     * structural modification, except for the edits in the edit mode.
+     */
+    private transient int finger;
+
+    /**
+     * Whether single-element insertions and removals move the gap between the
+     * ring end and the ring start to the edit position instead of settling.
+     */
+    private boolean editMode;
+
+    /**
+     * The maximum number of elements in this list, or 0 if unbounded. When
+     * positive, appending to a full list overwrites the first element.
+     */
+    private int windowSize;
+
+    /**
+     * Receives the elements evicted from a bounded list, or {@code null}.
+     */
+    private transient Consumer<? super E> evictionListener;
+
+    public RotableArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RotableArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "The initial capacity is negative: " +
+                    initialCapacity + ".");
+        }
+
+        storage = new Object[capacityFor(initialCapacity)];
+    }
+
+    public RotableArrayList(Collection<? extends E> coll) {
+        this(coll.size());
+        addAll(coll);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
 
     @Override
     public E get(int index) {
         checkAccessIndex(index);
-        return super.get((index + finger) % size());
+        return (E) storage[physicalIndex(index)];
     }
 
     @Override
     public E set(int index, E element) {
         checkAccessIndex(index);
-        E ret = get(index);
-        super.set((index + finger) % size(), element);
+        int position = physicalIndex(index);
+        E ret = (E) storage[position];
+        storage[position] = element;
         return ret;
     }
 
     @Override
     public void add(int index, E element) {
         checkAdditionIndex(index);
-        super.add((index + finger) % (size() + 1), element);
+        checkWindowCapacity(1);
+
+        if (editMode) {
+            addAtGap(index, element);
+            return;
+        }
+
+        settle();
+        ensureCapacity(size + 1);
+        int mask = storage.length - 1;
+
+        if (index < size - index) {
+            // Shift the prefix one position to the left.
+            int newHead = (head - 1) & mask;
+            moveElements(head, newHead, index);
+            head = newHead;
+        } else {
+            // Shift the suffix one position to the right.
+            int position = (head + index) & mask;
+            moveElements(position, (position + 1) & mask, size - index);
+        }
+
+        storage[(head + index) & mask] = element;
+        ++size;
+        ++modCount;
     }
 
     @Override
     public boolean add(E element) {
-        add(size(), element);
+        if (size == windowSize && windowSize != 0) {
+            // The window is full: overwrite the first element, which then
+            // becomes the last one by moving the finger.
+            int position = physicalIndex(0);
+            E evicted = (E) storage[position];
+            storage[position] = element;
+            advanceFinger(1);
+
+            if (evictionListener != null) {
+                evictionListener.accept(evicted);
+            }
+        } else {
+            add(size, element);
+        }
+
         return true;
     }
     
     @Override
     public boolean addAll(Collection<? extends E> coll) {
-        if (coll.isEmpty()) {
-            return false;
+        if (windowSize == 0) {
+            return addAll(size, coll);
         }
-        
-        super.addAll(finger, coll);
-        finger += coll.size();
-        return true;
+
+        Object[] array = coll.toArray();
+
+        for (Object element : array) {
+            add((E) element);
+        }
+
+        return array.length > 0;
     }
     
     @Override
     public boolean addAll(int index, Collection<? extends E> coll) {
-        if (coll.isEmpty()) {
+        checkAdditionIndex(index);
+        // Copy straight from the buffer of another rotable list. A list added
+        // to itself goes through a copy since its buffer is about to move.
+        // A reversed view has no buffer of its own.
+        RotableArrayList<?> source = coll instanceof RotableArrayList &&
+                                     !(coll instanceof ReversedView) &&
+                                     coll != this ?
+                                     (RotableArrayList<?>) coll :
+                                     null;
+        Object[] array = source == null ? coll.toArray() : null;
+        int length = source == null ? array.length : source.size;
+        checkWindowCapacity(length);
+
+        if (length == 0) {
             return false;
         }
         
-        int actualIndex = finger + index;
+        settle();
+        ensureCapacity(size + length);
+        int mask = storage.length - 1;
         
-        if (actualIndex >= size()) {
-            actualIndex %= size();
-            finger += coll.size();
+        if (index < size - index) {
+            // Shift the prefix 'length' positions to the left.
+            int newHead = (head - length) & mask;
+            moveElements(head, newHead, index);
+            head = newHead;
+        } else {
+            // Shift the suffix 'length' positions to the right.
+            int position = (head + index) & mask;
+            moveElements(position, (position + length) & mask, size - index);
         } 
         
-        super.addAll(actualIndex, coll);
+        int position = (head + index) & mask;
+
+        if (source == null) {
+            int chunk = Math.min(length, storage.length - position);
+            System.arraycopy(array, 0, storage, position, chunk);
+            System.arraycopy(array, chunk, storage, 0, length - chunk);
+        } else {
+            for (int copied = 0; copied < length;) {
+                int sourcePosition = source.physicalIndex(copied);
+                int targetPosition = (position + copied) & mask;
+                int run = Math.min(source.runLength(copied,
+                                                    sourcePosition,
+                                                    length),
+                                   storage.length - targetPosition);
+                System.arraycopy(source.storage,
+                                 sourcePosition,
+                                 storage,
+                                 targetPosition,
+                                 run);
+                copied += run;
+            }
+        }
+
+        size += length;
+        ++modCount;
         return true;
     }
     
     @Override
     public E remove(int index) {
         checkRemovalIndex(index);
-        E ret = this.get(index);
-        super.remove((finger + index) % size());
+
+        if (editMode) {
+            return removeAtGap(index);
+        }
+
+        settle();
+        int mask = storage.length - 1;
+        int position = (head + index) & mask;
+        E ret = (E) storage[position];
         
-        if (finger + index > size()) {
-            --finger;
+        if (index < size - index - 1) {
+            // Shift the prefix one position to the right.
+            moveElements(head, (head + 1) & mask, index);
+            storage[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // Shift the suffix one position to the left.
+            moveElements((position + 1) & mask, position, size - index - 1);
+            storage[(head + size - 1) & mask] = null;
         }
         
+        --size;
+        ++modCount;
         return ret;
     }
     
     @Override
     public void clear() {
-        super.clear();
+        Arrays.fill(storage, null);
+        head = 0;
+        size = 0;
         finger = 0;
+        ++modCount;
     }
 
     @Override
-    public int indexOf(Object o) {
-        int size = size();
+    protected void removeRange(int fromIndex, int toIndex) {
+        checkSubListRange(fromIndex, toIndex, size);
+        int length = toIndex - fromIndex;
 
-        for (int index = 0; index < size; ++index) {
-            if (Objects.equals(o, get(index))) {
-                return index;
-            }
+        if (length == 0) {
+            return;
         }
 
-        return -1;
+        settle();
+        removeSettledRange(fromIndex, toIndex);
+    }
+
+    /**
+     * Removes the range {@code [fromIndex, toIndex)} of a settled ring by
+     * shifting the shorter of the prefix and the suffix over it.
+     */
+    private void removeSettledRange(int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        int mask = storage.length - 1;
+
+        if (fromIndex < size - toIndex) {
+            // Shift the prefix 'length' positions to the right.
+            moveElements(head, (head + length) & mask, fromIndex);
+            clearElements(head, length);
+            head = (head + length) & mask;
+        } else {
+            // Shift the suffix 'length' positions to the left.
+            moveElements((head + toIndex) & mask,
+                         (head + fromIndex) & mask,
+                         size - toIndex);
+            clearElements((head + size - length) & mask, length);
+        }
+
+        size -= length;
+        ++modCount;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return indexOfRange(o, 0, size);
     }
 
     @Override
     public int lastIndexOf(Object o) {
-        for (int index = size() - 1; index >= 0; --index) {
-            if (Objects.equals(o, get(index))) {
-                return index;
-            }
-        }
+        return lastIndexOfRange(o, 0, size);
+    }
 
-        return -1;
+    @Override
+    public boolean contains(Object o) {
+        return indexOfRange(o, 0, size) >= 0;
     }
 
     @Override
     public void sort(Comparator<? super E> c) {
-        super.sort(c);
-        finger = 0;
+        sort(c, size >= PARALLEL_SORT_THRESHOLD);
+    }
+
+    /**
+     * Sorts this list like {@link #sort(Comparator)}, but always uses
+     * {@link Arrays#parallelSort(Object[], int, int, Comparator)} unless the
+     * list is a rotation of a sorted list.
+     *
+     * @param c the comparator, or {@code null} for the natural ordering.
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        sort(c, true);
     }
 
     @Override
     public Iterator<E> iterator() {
-        return new Iterator<E>() {
+        return new RotableIterator();
+    }
 
-            private final ListIterator<E> listIterator = listIterator(0);
-            
-            @Override
-            public boolean hasNext() {
-                return listIterator.hasNext();
-            }
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new DescendingIterator();
+    }
 
-            @Override
-            public E next() {
-                return listIterator.next();
-            }
-            
-            @Override
-            public void remove() {
-                listIterator.remove();
-            }
-        };
+    /**
+     * Returns a reverse-ordered view of this list. Reads and writes through
+     * the view, including the {@link Deque} operations and rotation, go to
+     * this list with the indices and ends swapped. The methods that expose or
+     * configure the physical buffer, namely {@link #array()},
+     * {@link #arrayOffset()}, {@link #setWindowSize(int, Consumer)} and
+     * {@link #batch()}, throw {@link UnsupportedOperationException} on the
+     * view. Declaring this method also lets the class compile on JDK 21,
+     * where {@code List} and {@code Deque} both declare {@code reversed()}
+     * with incompatible return types.
+     *
+     * @return a reverse-ordered view of this list.
+     */
+    public RotableArrayList<E> reversed() {
+        return new ReversedView<>(this);
     }
 
     @Override
@@ -163,23 +421,28 @@ public class RotableArrayList<E> extends ArrayList<E> {
 
     @Override
     public Spliterator<E> spliterator() {
-        throw new UnsupportedOperationException();
+        return new RotableSpliterator(0, -1, 0);
     }
 
+    /**
+     * Returns a live view of the range {@code [fromIndex, toIndex)} of this
+     * list. The view is created in constant time, and it may be rotated
+     * independently of the rest of this list.
+     *
+     * @param fromIndex the starting index of the range, inclusive.
+     * @param toIndex   the ending index of the range, exclusive.
+     * @return a view of the range.
+     */
     @Override
-    public List<E> subList(int fromIndex, int toIndex) {
-        throw new UnsupportedOperationException();
+    public RotableList<E> subList(int fromIndex, int toIndex) {
+        checkSubListRange(fromIndex, toIndex, size);
+        return new RotableSubList(null, fromIndex, toIndex - fromIndex);
     }
 
     @Override
     public Object[] toArray() {
-        Object[] array = new Object[size()];
-        int index = 0;
-        
-        for (E element : this) {
-            array[index++] = element;
-        }
-        
+        Object[] array = new Object[size];
+        copyElements(0, size, array, 0);
         return array;
     }
 
@@ -189,11 +452,7 @@ public class RotableArrayList<E> extends ArrayList<E> {
             a = Arrays.copyOf(a, size());
         }
         
-        int index = 0;
-        
-        for (Object element : this) {
-            a[index++] = (E) element;
-        }
+        copyElements(0, size, a, 0);
         
         if (a.length > size()) {
             a[size()] = null;
@@ -203,22 +462,79 @@ public class RotableArrayList<E> extends ArrayList<E> {
     }
 
     @Override
-    public boolean remove(Object o) {
-        int size = size();
+    public <T> T[] toArray(IntFunction<T[]> generator) {
+        return toArray(generator.apply(size));
+    }
 
-        for (int index = 0; index < size; ++index) {
-            if (Objects.equals(o, get(index))) {
-                remove(index);
-                // size = 10, finger = 7, index = 4
-                if (index + finger >= size()) {
-                    --finger;
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (!(o instanceof List)) {
+            return false;
+        }
+
+        List<?> other = (List<?>) o;
+
+        if (other.size() != size) {
+            return false;
+        }
+
+        int expectedModCount = modCount;
+        Iterator<?> iterator = other.iterator();
+        boolean equal = true;
+
+        for (int index = 0; index < size && equal;) {
+            int position = physicalIndex(index);
+            int run = runLength(index, position, size);
+
+            for (int end = position + run; position < end; ++position) {
+                if (!iterator.hasNext() ||
+                    !Objects.equals(storage[position], iterator.next())) {
+                    equal = false;
+                    break;
                 }
-                
-                return true;
             }
+
+            index += run;
+        }
+
+        checkConcurrentModification(expectedModCount);
+        return equal && !iterator.hasNext();
+    }
+
+    @Override
+    public int hashCode() {
+        int expectedModCount = modCount;
+        int hashCode = 1;
+
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int run = runLength(index, position, size);
+
+            for (int end = position + run; position < end; ++position) {
+                hashCode = 31 * hashCode + Objects.hashCode(storage[position]);
+            }
+
+            index += run;
+        }
+
+        checkConcurrentModification(expectedModCount);
+        return hashCode;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+
+        if (index == -1) {
+            return false;
         }
 
-        return false;
+        remove(index);
+        return true;
     }
     
     @Override
@@ -227,217 +543,2673 @@ public class RotableArrayList<E> extends ArrayList<E> {
             return false;
         }
         
-        Set<?> set = (coll instanceof HashSet) ? 
-                                 (Set<?>) coll : 
-                                 new HashSet<>(coll);
-        
-        Iterator<E> iterator = this.iterator();
-        
-        while (iterator.hasNext()) {
-            E current = iterator.next();
-            
-            if (set.contains(current)) {
-                iterator.remove();
-            }
-        }
-        
-        return true;
+        Set<?> set = asSet(coll);
+        return removeMatching(set::contains, 0, size) > 0;
     }
     
     @Override
     public boolean retainAll(Collection<?> coll) {
         if (coll.isEmpty()) {
-            return false;
+            if (size == 0) {
+                return false;
+            }
+
+            clear();
+            return true;
         }
         
-        Set<?> set = (coll instanceof HashSet) ? 
-                                 (Set<?>) coll : 
-                                 new HashSet<>(coll);
-        
-        Iterator<E> iterator = iterator();
-        
-        while (iterator.hasNext()) {
-            E current = iterator.next();
-            
-            if (!set.contains(current)) {
-                iterator.remove();
+        Set<?> set = asSet(coll);
+        return removeMatching(element -> !set.contains(element),
+                              0,
+                              size) > 0;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return removeMatching(filter, 0, size) > 0;
+    }
+
+    /**
+     * Performs {@code action} on each element in logical order. Walks the
+     * contiguous runs of the buffer directly, checking for concurrent
+     * modification once per run, and allocates nothing.
+     *
+     * @param action the action to perform on each element.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        // Should the action resize the buffer, the old array stays safe to
+        // index until the check below notices.
+        Object[] storage = this.storage;
+
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int end = position + runLength(index, position, size);
+
+            for (int i = position; i < end; ++i) {
+                action.accept((E) storage[i]);
             }
+
+            checkConcurrentModification(expectedModCount);
+            index += end - position;
         }
-        
-        return true;
+    }
+
+    /**
+     * Replaces each element with the result of applying {@code operator} to
+     * it, in logical order. Walks the contiguous runs of the buffer directly
+     * and allocates nothing.
+     *
+     * @param operator the operator to apply to each element.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        Object[] storage = this.storage;
+
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int end = position + runLength(index, position, size);
+
+            for (int i = position; i < end; ++i) {
+                storage[i] = operator.apply((E) storage[i]);
+            }
+
+            checkConcurrentModification(expectedModCount);
+            index += end - position;
+        }
+
+        ++modCount;
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("[");
-        int size = size();
+        String separator = "";
 
-        for (int index = 0; index < size; ++index) {
-            sb.append(get(index));
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int run = runLength(index, position, size);
 
-            if (index < size - 1) {
-                sb.append(", ");
+            for (int end = position + run; position < end; ++position) {
+                sb.append(separator).append(storage[position]);
+                separator = ", ";
             }
+
+            index += run;
         }
 
         return sb.append("]").toString();
     }
 
-    public void rotate(int offset) {
-        finger -= offset;
-        finger %= size();
-
-        if (finger < 0) {
-            finger += size();
+    @Override
+    public RotableArrayList<E> clone() {
+        try {
+            RotableArrayList<E> copy = (RotableArrayList<E>) super.clone();
+            copy.storage = storage.clone();
+            copy.modCount = 0;
+            return copy;
+        } catch (CloneNotSupportedException ex) {
+            throw new InternalError(ex);
         }
     }
 
-    private void checkAccessIndex(int index) {
-        if (index < 0) {
-            throw new IndexOutOfBoundsException(
-                    "The access index is negative: " + index + ".");
+    /**
+     * {@inheritDoc} Runs in constant time, but unless the buffer is full,
+     * the next structural modification settles the ring first at a cost of
+     * {@code O(min(k, size() - k))}, where {@code k} is the net rotation
+     * distance since the ring was last settled.
+     */
+    @Override
+    public void rotate(int offset) {
+        if (size == 0) {
+            return;
         }
 
-        if (index >= size()) {
-            throw new IndexOutOfBoundsException(
-                    "The access index is too large: " + index + "." + 
-                    "The size of the list is " + size() + ".");
+        int distance = -(offset % size);
+
+        if (distance < 0) {
+            distance += size;
         }
+
+        advanceFinger(distance);
     }
 
-    private void checkAdditionIndex(int index) {
-        if (index < 0) {
-            throw new IndexOutOfBoundsException(
-                    "The access index is negative: " + index + ".");
-        }
+    @Override
+    public void addFirst(E element) {
+        add(0, element);
+    }
 
-        if (index > size()) {
-            throw new IndexOutOfBoundsException(
-                    "The addition index is too large: " + index + "." + 
-                    "The size of the list is " + size() + ".");
-        }
+    /**
+     * {@inheritDoc} Overwrites the first element if this list is a full
+     * window.
+     */
+    @Override
+    public void addLast(E element) {
+        add(element);
     }
 
-    private void checkRemovalIndex(int index) {
-        if (index < 0) {
-            throw new IndexOutOfBoundsException(
-                    "The removal index is negative: " + index + ".");
+    /**
+     * {@inheritDoc} Returns {@code false} if this list is a full window.
+     */
+    @Override
+    public boolean offerFirst(E element) {
+        if (windowSize != 0 && size == windowSize) {
+            return false;
         }
 
-        if (index >= size()) {
-            throw new IndexOutOfBoundsException(
-                    "The removal index is too large: " + index + "." + 
-                    "The size of the list is " + size() + ".");
-        }
+        add(0, element);
+        return true;
     }
 
-    private final class RotableListIterator implements ListIterator<E> {
+    /**
+     * {@inheritDoc} Overwrites the first element if this list is a full
+     * window.
+     */
+    @Override
+    public boolean offerLast(E element) {
+        return add(element);
+    }
 
-        // Index is an arrow that points between two array elements:
-        // array[index - 1] and array[index].
-        private int expectedModCount = RotableArrayList.super.modCount;
-        private int index;
-        private int indexOfIteratedElement = -1;
-        private boolean lastMoveWasNext;
-        
-        public RotableListIterator(int index) {
-            this.index = index;
-        }
-        
-        @Override
-        public boolean hasNext() {
-            return index < RotableArrayList.this.size();
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
         }
 
-        @Override
-        public E next() {
-            checkConcurrentModification();
-            
-            if (!hasNext()) {
-                throw new NoSuchElementException(
-                        "No next element in this iterator.");
-            }
-        
-            indexOfIteratedElement = index;
-            lastMoveWasNext = true;
-            return (E) RotableArrayList.this.get(index++);
-        }
+        return remove(0);
+    }
 
-        @Override
-        public boolean hasPrevious() {
-            return index > 0;
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
         }
 
-        @Override
-        public E previous() {
-            checkConcurrentModification();
-            
-            if (!hasPrevious()) {
-                throw new NoSuchElementException(
-                        "No previous element in this iterator.");
-            }
-        
-            indexOfIteratedElement = --index;
-            lastMoveWasNext = false;
-            return (E) RotableArrayList.this.get(index);
-        }
+        return remove(size - 1);
+    }
 
-        @Override
-        public int nextIndex() {
-            return index;
+    @Override
+    public E pollFirst() {
+        return size == 0 ? null : remove(0);
+    }
+
+    @Override
+    public E pollLast() {
+        return size == 0 ? null : remove(size - 1);
+    }
+
+    @Override
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
         }
 
-        @Override
+        return (E) storage[physicalIndex(0)];
+    }
+
+    @Override
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+
+        return (E) storage[physicalIndex(size - 1)];
+    }
+
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : (E) storage[physicalIndex(0)];
+    }
+
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : (E) storage[physicalIndex(size - 1)];
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return remove(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOfRange(o, 0, size);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E element) {
+        return offerLast(element);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(E element) {
+        addFirst(element);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Rearranges the buffer in place so that this list occupies a single
+     * contiguous run of it in logical order, and resets the finger. Settles
+     * the ring and, if it wraps around the end of the buffer, moves it to the
+     * front of the buffer. Runs in time linear in the size of this list, not
+     * in the capacity, and needs no extra space. Does nothing if the list is
+     * already normalized.
+     */
+    public void normalize() {
+        if (finger == 0 && head + size <= storage.length) {
+            return;
+        }
+
+        settle();
+        makeContiguous();
+        // Iterators cache the physical layout.
+        ++modCount;
+    }
+
+    /**
+     * Normalizes this list and returns its backing array without copying.
+     * The elements at the indices {@code [arrayOffset(), arrayOffset() +
+     * size())} of the returned array are this list in logical order, until
+     * the next structural modification or rotation. Writes to that range go
+     * straight to this list.
+     *
+     * @return the backing array.
+     */
+    public Object[] array() {
+        normalize();
+        return storage;
+    }
+
+    /**
+     * Normalizes this list and returns the index of its first element in the
+     * array returned by {@link #array()}.
+     *
+     * @return the offset of this list within its backing array.
+     */
+    public int arrayOffset() {
+        normalize();
+        return head;
+    }
+
+    /**
+     * Bounds this list to at most {@code windowSize} elements, turning it into
+     * a sliding window: appending to a full window via {@link #add(Object)}
+     * or {@link #addAll(Collection)} overwrites the first element in constant
+     * time and without allocation, while inserting elsewhere throws
+     * {@link IllegalStateException}. If this list is larger than the window,
+     * its first elements are evicted right away. The buffer is grown to the
+     * window size up front.
+     *
+     * @param windowSize       the maximum number of elements, or 0 to remove
+     *                         the bound.
+     * @param evictionListener receives each overwritten or evicted element;
+     *                         may be {@code null}.
+     * @throws IllegalArgumentException if {@code windowSize} is negative or
+     *                                  exceeds the maximum capacity. The
+     *                                  list is left unchanged.
+     */
+    public void setWindowSize(int windowSize,
+                              Consumer<? super E> evictionListener) {
+        if (windowSize < 0) {
+            throw new IllegalArgumentException(
+                    "The window size is negative: " + windowSize + ".");
+        }
+
+        if (windowSize > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "The window size is too large: " + windowSize + ". " +
+                    "The maximum is " + MAXIMUM_CAPACITY + ".");
+        }
+
+        // Grow first so that a failed allocation leaves the list unchanged.
+        ensureCapacity(windowSize);
+        this.windowSize = windowSize;
+        this.evictionListener = evictionListener;
+
+        if (size > windowSize && windowSize != 0) {
+            drainFront(size - windowSize,
+                       evictionListener == null ? e -> {} : evictionListener);
+        }
+    }
+
+    /**
+     * Returns the maximum number of elements in this list.
+     *
+     * @return the window size, or 0 if this list is unbounded.
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Turns the edit mode on or off. In the edit mode, {@link #add(int,
+     * Object)} and {@link #remove(int)}, and thus the list iterators, do not
+     * settle the finger. Instead, they move the gap of free buffer slots to
+     * the edit position, like a gap buffer, and insert or remove there in
+     * constant time. Moving the gap costs the distance from the previous
+     * edit, so a run of edits near a cursor takes constant time per edit.
+     * Rotation keeps running in constant time and leaves the gap in place.
+     *
+     * @param editMode whether to turn the edit mode on.
+     */
+    public void setEditMode(boolean editMode) {
+        this.editMode = editMode;
+    }
+
+    /**
+     * Tells whether this list is in the edit mode.
+     *
+     * @return {@code true} if in the edit mode.
+     * @see #setEditMode(boolean)
+     */
+    public boolean isEditMode() {
+        return editMode;
+    }
+
+    /**
+     * Returns a new batch of modifications to this list. The batch records
+     * insertions, removals and replacements by index and applies them all
+     * at once via {@link Batch#apply()}.
+     *
+     * @return a new batch.
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Returns the first element of this list and moves it to the end, which
+     * is the same as {@code get(0)} followed by {@code rotate(-1)}. Runs in
+     * constant time.
+     *
+     * @return the element that was at the front.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E nextRoundRobin() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+
+        E ret = (E) storage[physicalIndex(0)];
+        advanceFinger(1);
+        return ret;
+    }
+
+    /**
+     * Rotates this list {@code offset} positions to the right and returns the
+     * new first element.
+     *
+     * @param offset the rotation distance.
+     * @return the first element after the rotation.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public E rotateAndGet(int offset) {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+
+        rotate(offset);
+        return (E) storage[physicalIndex(0)];
+    }
+
+    /**
+     * Removes at most {@code count} elements from the front of this list and
+     * passes them to {@code action} in order. Each element is removed before
+     * it is passed on, so the action may add elements back to this list.
+     * Runs in time linear in the number of removed elements once the ring
+     * is settled.
+     *
+     * @param count  the maximum number of elements to remove.
+     * @param action the action to perform on each removed element.
+     * @return the number of elements removed.
+     */
+    public int drainFront(int count, Consumer<? super E> action) {
+        Objects.requireNonNull(action, "The action is null.");
+        int drained = 0;
+
+        while (drained < count && size > 0) {
+            // A no-op unless the action rotated this list.
+            settle();
+            E element = (E) storage[head];
+            storage[head] = null;
+            head = (head + 1) & (storage.length - 1);
+            --size;
+            ++modCount;
+            ++drained;
+            action.accept(element);
+        }
+
+        return drained;
+    }
+
+    /**
+     * Makes sure that the circular buffer can accommodate at least
+     * {@code minCapacity} elements without resizing.
+     *
+     * @param minCapacity the requested minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > storage.length) {
+            resize(capacityFor(minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the circular buffer to the smallest power of two that can
+     * accommodate the current elements, or the whole window if this list is
+     * bounded.
+     */
+    public void trimToSize() {
+        int capacity = capacityFor(Math.max(size, windowSize));
+
+        if (capacity < storage.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Returns the physical index of the logical element at index
+     * {@code index}. Since both {@code index} and {@code finger} are below
+     * {@code size}, a single conditional subtraction replaces the modulo, and
+     * the power-of-two capacity lets a mask do the wrap around the buffer.
+     */
+    private int physicalIndex(int index) {
+        int ringIndex = index + finger;
+
+        if (ringIndex >= size) {
+            ringIndex -= size;
+        }
+
+        return (head + ringIndex) & (storage.length - 1);
+    }
+
+    /**
+     * Searches this list for {@code key} by binary search. The list must be
+     * sorted according to {@code c} in its logical order. Runs in
+     * logarithmic time.
+     *
+     * @param key the element to search for.
+     * @param c   the comparator, or {@code null} for the natural ordering.
+     * @return the index of {@code key} if present; otherwise
+     *         {@code -(insertion point) - 1}, where the insertion point is the
+     *         index of the first element greater than {@code key}.
+     */
+    public int binarySearch(E key, Comparator<? super E> c) {
+        Comparator<Object> comparator = comparatorOf(c);
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = comparator.compare(storage[physicalIndex(middle)], key);
+
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * Equivalent to {@code findRotationOffset(null)}.
+     *
+     * @return the index at which the sorted order starts.
+     */
+    public int findRotationOffset() {
+        return findRotationOffset(null);
+    }
+
+    /**
+     * Assuming this list is a rotation of a list sorted according to
+     * {@code c}, returns the index of the element that starts the sorted
+     * order, so that {@code rotate(-findRotationOffset(c))} sorts this list.
+     * Runs in logarithmic time unless many elements compare as equal, in
+     * which case it may degrade to linear time.
+     *
+     * @param c the comparator, or {@code null} for the natural ordering.
+     * @return the index at which the sorted order starts, or 0 if this list is
+     *         empty.
+     */
+    public int findRotationOffset(Comparator<? super E> c) {
+        Comparator<Object> comparator = comparatorOf(c);
+        int low = 0;
+        int high = size - 1;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Object highElement = storage[physicalIndex(high)];
+            int cmp = comparator.compare(storage[physicalIndex(middle)],
+                                         highElement);
+
+            if (cmp > 0) {
+                low = middle + 1;
+            } else if (cmp < 0) {
+                high = middle;
+            } else if (comparator.compare(storage[physicalIndex(high - 1)],
+                                          highElement) > 0) {
+                // The ties leave no hint which half holds the descent, but
+                // the descent may be right before 'high'.
+                return high;
+            } else {
+                --high;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Sorts this list. If the list is a rotation of a sorted list, it is only
+     * re-fingered, which takes a linear scan and no moves. Otherwise, the
+     * ring is made contiguous and sorted in place.
+     */
+    private void sort(Comparator<? super E> c, boolean parallel) {
+        Comparator<Object> comparator = comparatorOf(c);
+        int expectedModCount = modCount;
+        int descent = -1;
+        int descents = 0;
+
+        for (int index = 1; index < size && descents < 2; ++index) {
+            if (comparator.compare(storage[physicalIndex(index - 1)],
+                                   storage[physicalIndex(index)]) > 0) {
+                descent = index;
+                ++descents;
+            }
+        }
+
+        checkConcurrentModification(expectedModCount);
+
+        if (descents == 0) {
+            ++modCount;
+            return;
+        }
+
+        // Rotating is stable only if the tail is strictly below the head.
+        if (descents == 1 &&
+                comparator.compare(storage[physicalIndex(size - 1)],
+                                   storage[physicalIndex(0)]) < 0) {
+            advanceFinger(descent);
+            return;
+        }
+
+        settle();
+        makeContiguous();
+        // The layout has changed even if the comparator throws below.
+        expectedModCount = ++modCount;
+
+        if (parallel) {
+            Arrays.parallelSort(storage, head, head + size, comparator);
+        } else {
+            Arrays.sort(storage, head, head + size, comparator);
+        }
+
+        checkConcurrentModification(expectedModCount);
+        ++modCount;
+    }
+
+    /**
+     * Moves the finger {@code distance} ring positions forward, which rotates
+     * this list {@code distance} positions to the left. Expects
+     * {@code 0 <= distance < size}.
+     */
+    private void advanceFinger(int distance) {
+        finger += distance;
+
+        if (finger >= size) {
+            finger -= size;
+        }
+
+        if (size == storage.length) {
+            // The ring is full so settling is a mere head adjustment.
+            settle();
+        }
+
+        // Rotation changes the element at every index, so the iterators and
+        // views must notice it.
+        ++modCount;
+    }
+
+    /**
+     * Moves the ring elements so that the logical element at index 0 becomes
+     * the first ring element, and resets the finger. Runs in time
+     * {@code O(min(finger, size - finger))}, and in constant time if the ring
+     * is full.
+     */
+    private void settle() {
+        shiftRing(finger);
+    }
+
+    /**
+     * Moves the ring elements so that the ring element at index
+     * {@code distance} becomes the first one, and adjusts the finger so that
+     * the logical order stays intact. Runs in time
+     * {@code O(min(distance, size - distance))}, and in constant time if the
+     * ring is full.
+     */
+    private void shiftRing(int distance) {
+        if (distance == 0) {
+            return;
+        }
+
+        int mask = storage.length - 1;
+
+        if (size == storage.length) {
+            head = (head + distance) & mask;
+        } else if (distance <= size - distance) {
+            // Move the first 'distance' ring elements past the tail. Whenever
+            // a target slot wraps over the gap, it has been vacated already.
+            for (int i = 0; i < distance; ++i) {
+                int source = (head + i) & mask;
+                storage[(head + size + i) & mask] = storage[source];
+                storage[source] = null;
+            }
+
+            head = (head + distance) & mask;
+        } else {
+            // Move the last 'size - distance' ring elements before the head.
+            int count = size - distance;
+
+            for (int i = 1; i <= count; ++i) {
+                int source = (head + size - i) & mask;
+                storage[(head - i) & mask] = storage[source];
+                storage[source] = null;
+            }
+
+            head = (head - count) & mask;
+        }
+
+        finger -= distance;
+
+        if (finger < 0) {
+            finger += size;
+        }
+    }
+
+    /**
+     * Shifts the ring so that the gap between the ring end and the ring start
+     * lies right before the logical element at {@code index}, that is, so
+     * that this element becomes the first ring element. If {@code index} is
+     * 0 or {@code size}, the ring gets settled.
+     */
+    private void moveGapTo(int index) {
+        int distance = finger - (index == 0 ? 0 : size - index);
+
+        if (distance < 0) {
+            distance += size;
+        }
+
+        shiftRing(distance);
+    }
+
+    private void addAtGap(int index, E element) {
+        // Grow first, since a resize settles the ring.
+        ensureCapacity(size + 1);
+        moveGapTo(index);
+        int mask = storage.length - 1;
+
+        if (index == size) {
+            storage[(head + size) & mask] = element;
+        } else {
+            // Prepend to the ring. Unless the ring is settled, the finger
+            // must skip the new first ring element too.
+            head = (head - 1) & mask;
+            storage[head] = element;
+
+            if (finger != 0) {
+                ++finger;
+            }
+        }
+
+        ++size;
+        ++modCount;
+    }
+
+    private E removeAtGap(int index) {
+        moveGapTo(index);
+        E ret = (E) storage[head];
+        storage[head] = null;
+        head = (head + 1) & (storage.length - 1);
+        --size;
+
+        if (finger != 0) {
+            --finger;
+        }
+
+        ++modCount;
+        return ret;
+    }
+
+    /**
+     * Moves a settled ring that wraps around the end of the buffer so that
+     * it starts at the physical index 0 and occupies a single contiguous run.
+     * Runs in time linear in the size of this list and needs no extra space.
+     */
+    private void makeContiguous() {
+        int capacity = storage.length;
+
+        if (head + size <= capacity) {
+            return;
+        }
+
+        // Slide the run [head, capacity) left through the gap so that it
+        // directly follows the wrapped run [0, wrapped), then swap the two
+        // adjacent runs by three reversals.
+        int wrapped = head + size - capacity;
+        System.arraycopy(storage, head, storage, wrapped, capacity - head);
+        Arrays.fill(storage, Math.max(head, size), capacity, null);
+        reverseStorage(0, wrapped);
+        reverseStorage(wrapped, size);
+        reverseStorage(0, size);
+        head = 0;
+    }
+
+    /**
+     * Reverses the physical range {@code [from, to)} of the buffer.
+     */
+    private void reverseStorage(int from, int to) {
+        for (int i = from, j = to - 1; i < j; ++i, --j) {
+            Object tmp = storage[i];
+            storage[i] = storage[j];
+            storage[j] = tmp;
+        }
+    }
+
+    /**
+     * Moves {@code length} elements starting from the physical index
+     * {@code source} to the run starting from the physical index
+     * {@code target}. Both runs may wrap around the end of the buffer, and
+     * they may overlap.
+     */
+    private void moveElements(int source, int target, int length) {
+        int capacity = storage.length;
+        int mask = capacity - 1;
+
+        if (((target - source) & mask) < length) {
+            // The target run starts inside the source run: copy backwards.
+            int remaining = length;
+
+            while (remaining > 0) {
+                int sourceLast = (source + remaining - 1) & mask;
+                int targetLast = (target + remaining - 1) & mask;
+                int chunk = Math.min(remaining,
+                                     Math.min(sourceLast, targetLast) + 1);
+                System.arraycopy(storage,
+                                 sourceLast - chunk + 1,
+                                 storage,
+                                 targetLast - chunk + 1,
+                                 chunk);
+                remaining -= chunk;
+            }
+        } else {
+            int done = 0;
+
+            while (done < length) {
+                int from = (source + done) & mask;
+                int to = (target + done) & mask;
+                int chunk = Math.min(length - done,
+                                     capacity - Math.max(from, to));
+                System.arraycopy(storage, from, storage, to, chunk);
+                done += chunk;
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        settle();
+        Object[] newStorage = new Object[capacity];
+        int chunk = Math.min(size, storage.length - head);
+        System.arraycopy(storage, head, newStorage, 0, chunk);
+        System.arraycopy(storage, 0, newStorage, chunk, size - chunk);
+        storage = newStorage;
+        head = 0;
+        // The iterators cache the physical layout, which has changed.
+        ++modCount;
+    }
+
+    /**
+     * Removes all the elements in {@code [fromIndex, toIndex)} matching
+     * {@code filter} in a single pass that compacts the survivors of the range
+     * towards its start, and then closes the gap by shifting the shorter side
+     * of the ring.
+     *
+     * @param filter    the predicate selecting the elements to remove.
+     * @param fromIndex the index of the first element to test.
+     * @param toIndex   the index one past the last element to test.
+     * @return the number of removed elements.
+     */
+    private int removeMatching(Predicate<? super E> filter,
+                               int fromIndex,
+                               int toIndex) {
+        int expectedModCount = modCount;
+        int read = fromIndex;
+
+        // Skip the leading survivors, they stay where they are. The ring is
+        // settled only once there is something to remove, since settling
+        // moves elements under the iterators.
+        while (read < toIndex &&
+                !filter.test((E) storage[physicalIndex(read)])) {
+            ++read;
+        }
+
+        checkConcurrentModification(expectedModCount);
+
+        if (read == toIndex) {
+            return 0;
+        }
+
+        settle();
+        int mask = storage.length - 1;
+        int write = read++;
+
+        try {
+            for (; read < toIndex; ++read) {
+                Object element = storage[(head + read) & mask];
+
+                if (!filter.test((E) element)) {
+                    checkConcurrentModification(expectedModCount);
+                    storage[(head + write++) & mask] = element;
+                }
+            }
+
+            checkConcurrentModification(expectedModCount);
+        } finally {
+            // Keep the unprocessed elements if the filter threw.
+            if (read < toIndex && modCount == expectedModCount) {
+                moveElements((head + read) & mask,
+                             (head + write) & mask,
+                             toIndex - read);
+                write += toIndex - read;
+            }
+
+            if (modCount == expectedModCount) {
+                removeSettledRange(write, toIndex);
+            }
+        }
+
+        return toIndex - write;
+    }
+
+    /**
+     * Returns the smallest index in {@code [fromIndex, toIndex)} holding an
+     * element equal to {@code o}, or -1 if there is none. Scans one
+     * contiguous physical run at a time.
+     */
+    private int indexOfRange(Object o, int fromIndex, int toIndex) {
+        while (fromIndex < toIndex) {
+            int position = physicalIndex(fromIndex);
+            int end = position + runLength(fromIndex, position, toIndex);
+
+            if (o == null) {
+                for (int i = position; i < end; ++i) {
+                    if (storage[i] == null) {
+                        return fromIndex + i - position;
+                    }
+                }
+            } else {
+                for (int i = position; i < end; ++i) {
+                    Object element = storage[i];
+
+                    if (o == element || o.equals(element)) {
+                        return fromIndex + i - position;
+                    }
+                }
+            }
+
+            fromIndex += end - position;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the largest index in {@code [fromIndex, toIndex)} holding an
+     * element equal to {@code o}, or -1 if there is none. Scans one
+     * contiguous physical run at a time.
+     */
+    private int lastIndexOfRange(Object o, int fromIndex, int toIndex) {
+        int index = toIndex - 1;
+
+        while (index >= fromIndex) {
+            int position = physicalIndex(index);
+            int start = position - backwardRunLength(index,
+                                                     position,
+                                                     fromIndex);
+
+            if (o == null) {
+                for (int i = position; i > start; --i) {
+                    if (storage[i] == null) {
+                        return index - position + i;
+                    }
+                }
+            } else {
+                for (int i = position; i > start; --i) {
+                    Object element = storage[i];
+
+                    if (o == element || o.equals(element)) {
+                        return index - position + i;
+                    }
+                }
+            }
+
+            index -= position - start;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Copies the range {@code [fromIndex, toIndex)} of this list to
+     * {@code target} starting from the index {@code targetIndex}, one
+     * contiguous physical run per {@code System.arraycopy} call.
+     */
+    private void copyElements(int fromIndex,
+                              int toIndex,
+                              Object[] target,
+                              int targetIndex) {
+        while (fromIndex < toIndex) {
+            int position = physicalIndex(fromIndex);
+            int run = runLength(fromIndex, position, toIndex);
+            System.arraycopy(storage, position, target, targetIndex, run);
+            fromIndex += run;
+            targetIndex += run;
+        }
+    }
+
+    /**
+     * Sets {@code length} slots starting from the physical index
+     * {@code position} to {@code null}. The run may wrap around the end of the
+     * buffer.
+     */
+    private void clearElements(int position, int length) {
+        int chunk = Math.min(length, storage.length - position);
+        Arrays.fill(storage, position, position + chunk, null);
+        Arrays.fill(storage, 0, length - chunk, null);
+    }
+
+    /**
+     * Reverses the range {@code [fromIndex, toIndex)} of this list in place.
+     */
+    private void reverse(int fromIndex, int toIndex) {
+        for (int i = fromIndex, j = toIndex - 1; i < j; ++i, --j) {
+            int left = physicalIndex(i);
+            int right = physicalIndex(j);
+            Object tmp = storage[left];
+            storage[left] = storage[right];
+            storage[right] = tmp;
+        }
+    }
+
+    /**
+     * Returns the number of logical elements, starting from the logical index
+     * {@code index} and not reaching {@code toIndex}, that are stored
+     * contiguously from the physical index {@code position} on.
+     */
+    private int runLength(int index, int position, int toIndex) {
+        int limit = index < size - finger ?
+                    Math.min(toIndex, size - finger) :
+                    toIndex;
+
+        return Math.min(limit - index, storage.length - position);
+    }
+
+    /**
+     * Returns the number of logical elements, ending at the logical index
+     * {@code index} and not going below {@code fromIndex}, that are stored
+     * contiguously up to the physical index {@code position}.
+     */
+    private int backwardRunLength(int index, int position, int fromIndex) {
+        int limit = index >= size - finger ?
+                    Math.max(fromIndex, size - finger) :
+                    fromIndex;
+
+        return Math.min(index - limit + 1, position + 1);
+    }
+
+    private static Comparator<Object> comparatorOf(Comparator<?> c) {
+        return c == null ?
+               (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder() :
+               (Comparator<Object>) c;
+    }
+
+    private static Set<?> asSet(Collection<?> coll) {
+        return coll instanceof Set ? (Set<?>) coll : new HashSet<>(coll);
+    }
+
+    private static int capacityFor(int minCapacity) {
+        if (minCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException(
+                    "The requested capacity is too large: " +
+                    minCapacity + ".");
+        }
+
+        return Math.max(DEFAULT_CAPACITY,
+                        Integer.highestOneBit(minCapacity - 1) << 1);
+    }
+
+    private void checkWindowCapacity(int length) {
+        if (windowSize != 0 && length > windowSize - size) {
+            throw new IllegalStateException(
+                    "Inserting " + length + " elements exceeds the window " +
+                    "size " + windowSize + ". The size of the list is " +
+                    size + ".");
+        }
+    }
+
+    private void checkConcurrentModification(int expectedModCount) {
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException(
+                    "Expected mod count: " + expectedModCount + ", " +
+                    "actual mod count: " + modCount);
+        }
+    }
+
+    private static void checkSubListRange(int fromIndex,
+                                          int toIndex,
+                                          int size) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The starting index is negative: " + fromIndex + ".");
+        }
+
+        if (toIndex > size) {
+            throw new IndexOutOfBoundsException(
+                    "The ending index is too large: " + toIndex + ". " +
+                    "The size of the list is " + size + ".");
+        }
+
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException(
+                    "The starting index " + fromIndex + " is larger than " +
+                    "the ending index " + toIndex + ".");
+        }
+    }
+
+    private void checkAccessIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is negative: " + index + ".");
+        }
+
+        if (index >= size()) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is too large: " + index + "." + 
+                    "The size of the list is " + size() + ".");
+        }
+    }
+
+    private void checkAdditionIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is negative: " + index + ".");
+        }
+
+        if (index > size()) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is too large: " + index + "." + 
+                    "The size of the list is " + size() + ".");
+        }
+    }
+
+    private void checkRemovalIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is negative: " + index + ".");
+        }
+
+        if (index >= size()) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is too large: " + index + "." + 
+                    "The size of the list is " + size() + ".");
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+
+        for (int index = 0; index < size; ++index) {
+            out.writeObject(get(index));
+        }
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        storage = new Object[capacityFor(size)];
+
+        for (int index = 0; index < size; ++index) {
+            storage[index] = in.readObject();
+        }
+    }
+
+    private final class RotableListIterator implements ListIterator<E> {
+
+        // Index is an arrow that points between two array elements:
+        // array[index - 1] and array[index].
+        private int expectedModCount = RotableArrayList.super.modCount;
+        private int index;
+        private int indexOfIteratedElement = -1;
+        private boolean lastMoveWasNext;
+        
+        public RotableListIterator(int index) {
+            this.index = index;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return index < RotableArrayList.this.size();
+        }
+
+        @Override
+        public E next() {
+            checkConcurrentModification();
+            
+            if (!hasNext()) {
+                throw new NoSuchElementException(
+                        "No next element in this iterator.");
+            }
+        
+            indexOfIteratedElement = index;
+            lastMoveWasNext = true;
+            return (E) RotableArrayList.this.get(index++);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkConcurrentModification();
+            
+            if (!hasPrevious()) {
+                throw new NoSuchElementException(
+                        "No previous element in this iterator.");
+            }
+        
+            indexOfIteratedElement = --index;
+            lastMoveWasNext = false;
+            return (E) RotableArrayList.this.get(index);
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (indexOfIteratedElement == -1) {
+                throw new IllegalStateException(
+                        "There is no element to remove.");
+            }
+            
+            checkConcurrentModification();
+            E ret = RotableArrayList.this.remove(indexOfIteratedElement);
+            indexOfIteratedElement = -1;
+            expectedModCount = RotableArrayList.super.modCount;
+        
+            if (lastMoveWasNext) {
+                index--;
+            }
+        }
+
+        @Override
+        public void set(E e) {
+            if (indexOfIteratedElement == -1) {
+                throw new IllegalStateException("There is no current element.");
+            }
+            
+            checkConcurrentModification();
+            RotableArrayList.this.set(indexOfIteratedElement, e);
+            expectedModCount = RotableArrayList.super.modCount;
+        }
+
+        @Override
+        public void add(E e) {
+            checkConcurrentModification(); 
+            RotableArrayList.this.add(nextIndex(), e);
+            index++;
+            indexOfIteratedElement = -1;
+            expectedModCount = RotableArrayList.super.modCount;
+        }
+        
+        private void checkConcurrentModification() {
+            if (expectedModCount != RotableArrayList.super.modCount) {
+                throw new ConcurrentModificationException(
+                        "Expected mod count: " + expectedModCount + ", " + 
+                        "actual mod count: " + RotableArrayList.super.modCount);
+            }
+        }
+    }
+    
+    /**
+     * This class records modifications to the enclosing list and applies
+     * them in a single merge pass over the buffer. All indices refer to the
+     * list as it was when the batch was created. Elements inserted at the
+     * same index keep the order in which they were recorded, and precede the
+     * element originally at that index. If an index is replaced several
+     * times, the last replacement wins.
+     * <p>
+     * Applying {@code k} recorded modifications to a list of {@code n}
+     * elements runs in time {@code O(n + k log k)}, compared to
+     * {@code O(nk)} for applying them one by one, and needs no extra space
+     * beyond the records. The list must not be modified between the
+     * creation of the batch and its application.
+     */
+    public final class Batch {
+
+        private final int expectedModCount = modCount;
+        private final int originalSize = size;
+        private boolean applied;
+
+        // Each key holds an index in its upper half and the sequence number
+        // of the record in its lower half, so sorting the keys orders the
+        // records by index and then by recording order.
+        private long[] insertKeys = new long[4];
+        private Object[] insertElements = new Object[4];
+        private int insertCount;
+
+        private long[] setKeys = new long[4];
+        private Object[] setElements = new Object[4];
+        private int setCount;
+
+        private int[] removeIndices = new int[4];
+        private int removeCount;
+
+        private Batch() {}
+
+        /**
+         * Records the insertion of {@code element} before the element
+         * originally at the index {@code index}.
+         *
+         * @param index   the index in the original list, at most its size.
+         * @param element the element to insert.
+         * @return this batch.
+         */
+        public Batch add(int index, E element) {
+            checkRecordIndex(index, originalSize + 1);
+
+            if (insertCount == insertKeys.length) {
+                insertKeys = Arrays.copyOf(insertKeys, 2 * insertCount);
+                insertElements = Arrays.copyOf(insertElements,
+                                               2 * insertCount);
+            }
+
+            insertKeys[insertCount] = (long) index << 32 | insertCount;
+            insertElements[insertCount++] = element;
+            return this;
+        }
+
+        /**
+         * Records the replacement of the element originally at the index
+         * {@code index}.
+         *
+         * @param index   the index in the original list.
+         * @param element the new element.
+         * @return this batch.
+         */
+        public Batch set(int index, E element) {
+            checkRecordIndex(index, originalSize);
+
+            if (setCount == setKeys.length) {
+                setKeys = Arrays.copyOf(setKeys, 2 * setCount);
+                setElements = Arrays.copyOf(setElements, 2 * setCount);
+            }
+
+            setKeys[setCount] = (long) index << 32 | setCount;
+            setElements[setCount++] = element;
+            return this;
+        }
+
+        /**
+         * Records the removal of the element originally at the index
+         * {@code index}.
+         *
+         * @param index the index in the original list.
+         * @return this batch.
+         */
+        public Batch remove(int index) {
+            checkRecordIndex(index, originalSize);
+
+            if (removeCount == removeIndices.length) {
+                removeIndices = Arrays.copyOf(removeIndices, 2 * removeCount);
+            }
+
+            removeIndices[removeCount++] = index;
+            return this;
+        }
+
+        /**
+         * Applies the recorded modifications to the enclosing list.
+         *
+         * @throws IllegalStateException if this batch has been applied
+         *                               already, removes an element twice,
+         *                               replaces a removed element or
+         *                               overflows the window of the list.
+         * @throws ConcurrentModificationException if the list was modified
+         *                                         after the creation of this
+         *                                         batch.
+         */
+        public void apply() {
+            if (applied) {
+                throw new IllegalStateException(
+                        "The batch has been applied already.");
+            }
+
+            checkConcurrentModification(expectedModCount);
+            Arrays.sort(insertKeys, 0, insertCount);
+            Arrays.sort(setKeys, 0, setCount);
+            Arrays.sort(removeIndices, 0, removeCount);
+            validate();
+            checkWindowCapacity(insertCount - removeCount);
+            applied = true;
+
+            int n = size;
+            int newSize = n + insertCount - removeCount;
+            settle();
+            ensureCapacity(Math.max(n, newSize));
+            int mask = storage.length - 1;
+
+            // Elements moving towards the head go first, from left to right,
+            // then the ones moving towards the tail, from right to left. This
+            // way no element overwrites one that is yet to move.
+            for (int i = 0, inserts = 0, removes = 0; i < n; ++i) {
+                while (inserts < insertCount && insertIndex(inserts) <= i) {
+                    ++inserts;
+                }
+
+                if (removes < removeCount && removeIndices[removes] == i) {
+                    ++removes;
+                    continue;
+                }
+
+                int target = i + inserts - removes;
+
+                if (target < i) {
+                    storage[(head + target) & mask] =
+                            storage[(head + i) & mask];
+                }
+            }
+
+            for (int i = n - 1, inserts = insertCount, removes = removeCount;
+                    i >= 0;
+                    --i) {
+                while (inserts > 0 && insertIndex(inserts - 1) > i) {
+                    --inserts;
+                }
+
+                while (removes > 0 && removeIndices[removes - 1] >= i) {
+                    --removes;
+                }
+
+                if (removes < removeCount && removeIndices[removes] == i) {
+                    continue;
+                }
+
+                int target = i + inserts - removes;
+
+                if (target > i) {
+                    storage[(head + target) & mask] =
+                            storage[(head + i) & mask];
+                }
+            }
+
+            for (int j = 0, removes = 0; j < insertCount; ++j) {
+                int index = insertIndex(j);
+
+                while (removes < removeCount &&
+                        removeIndices[removes] < index) {
+                    ++removes;
+                }
+
+                storage[(head + index + j - removes) & mask] =
+                        insertElements[(int) insertKeys[j]];
+            }
+
+            for (int j = 0, inserts = 0, removes = 0; j < setCount; ++j) {
+                int index = (int) (setKeys[j] >>> 32);
+
+                if (j + 1 < setCount &&
+                        (int) (setKeys[j + 1] >>> 32) == index) {
+                    // A later replacement of the same index wins.
+                    continue;
+                }
+
+                while (inserts < insertCount && insertIndex(inserts) <= index) {
+                    ++inserts;
+                }
+
+                while (removes < removeCount &&
+                        removeIndices[removes] < index) {
+                    ++removes;
+                }
+
+                storage[(head + index + inserts - removes) & mask] =
+                        setElements[(int) setKeys[j]];
+            }
+
+            if (newSize < n) {
+                clearElements((head + newSize) & mask, n - newSize);
+            }
+
+            size = newSize;
+            ++modCount;
+        }
+
+        private int insertIndex(int j) {
+            return (int) (insertKeys[j] >>> 32);
+        }
+
+        private void validate() {
+            for (int j = 1; j < removeCount; ++j) {
+                if (removeIndices[j] == removeIndices[j - 1]) {
+                    throw new IllegalStateException(
+                            "The element at index " + removeIndices[j] +
+                            " is removed twice.");
+                }
+            }
+
+            for (int j = 0, removes = 0; j < setCount; ++j) {
+                int index = (int) (setKeys[j] >>> 32);
+
+                while (removes < removeCount &&
+                        removeIndices[removes] < index) {
+                    ++removes;
+                }
+
+                if (removes < removeCount &&
+                        removeIndices[removes] == index) {
+                    throw new IllegalStateException(
+                            "The element at index " + index +
+                            " is both replaced and removed.");
+                }
+            }
+        }
+
+        private void checkRecordIndex(int index, int fence) {
+            if (applied) {
+                throw new IllegalStateException(
+                        "The batch has been applied already.");
+            }
+
+            if (index < 0) {
+                throw new IndexOutOfBoundsException(
+                        "The index is negative: " + index + ".");
+            }
+
+            if (index >= fence) {
+                throw new IndexOutOfBoundsException(
+                        "The index is too large: " + index + ". " +
+                        "The size of the list is " + originalSize + ".");
+            }
+        }
+    }
+
+    /**
+     * Iterates from the first element to the last one. The physical index of
+     * the element at the logical index {@code i} is {@code i + delta} masked
+     * by the buffer capacity, where {@code delta} changes only once, when the
+     * iteration crosses the end of the ring. The loop thus has a single
+     * induction variable and no calls, which lets the compiler treat it like
+     * a loop over an array.
+     */
+    private final class RotableIterator implements Iterator<E> {
+
+        private int expectedModCount = modCount;
+
+        // The logical index of the next element.
+        private int index;
+        private int lastReturnedIndex = -1;
+
+        // The physical offset of the logical indices below 'ringEnd'.
+        private int delta = head + finger;
+        private int ringEnd = size - finger;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public E next() {
+            checkConcurrentModification(expectedModCount);
+            int i = index;
+
+            if (i >= ringEnd) {
+                if (i >= size) {
+                    throw new NoSuchElementException(
+                            "No next element in this iterator.");
+                }
+
+                delta = head + finger - size;
+                ringEnd = size;
+            }
+
+            index = i + 1;
+            lastReturnedIndex = i;
+            Object[] storage = RotableArrayList.this.storage;
+            return (E) storage[(i + delta) & (storage.length - 1)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedIndex == -1) {
+                throw new IllegalStateException(
+                        "There is no element to remove.");
+            }
+
+            checkConcurrentModification(expectedModCount);
+            RotableArrayList.this.remove(lastReturnedIndex);
+            index = lastReturnedIndex;
+            lastReturnedIndex = -1;
+            delta = head + finger;
+            ringEnd = size - finger;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            Object[] storage = RotableArrayList.this.storage;
+
+            while (index < size) {
+                checkConcurrentModification(expectedModCount);
+                int position = physicalIndex(index);
+                int end = position + runLength(index, position, size);
+
+                for (int i = position; i < end; ++i) {
+                    action.accept((E) storage[i]);
+                }
+
+                index += end - position;
+                lastReturnedIndex = index - 1;
+            }
+
+            checkConcurrentModification(expectedModCount);
+        }
+    }
+
+    /**
+     * Iterates from the last element to the first one in the manner of
+     * {@link RotableIterator}.
+     */
+    private final class DescendingIterator implements Iterator<E> {
+
+        private int expectedModCount = modCount;
+
+        // The logical index of the next element plus one.
+        private int index = size;
+        private int lastReturnedIndex = -1;
+
+        // The physical offset of the logical indices from 'ringStart' on.
+        private int delta;
+        private int ringStart;
+
+        DescendingIterator() {
+            reset();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index > 0;
+        }
+
+        @Override
+        public E next() {
+            checkConcurrentModification(expectedModCount);
+            int i = index - 1;
+
+            if (i < ringStart) {
+                if (i < 0) {
+                    throw new NoSuchElementException(
+                            "No next element in this iterator.");
+                }
+
+                delta = head + finger;
+                ringStart = 0;
+            }
+
+            index = i;
+            lastReturnedIndex = i;
+            Object[] storage = RotableArrayList.this.storage;
+            return (E) storage[(i + delta) & (storage.length - 1)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedIndex == -1) {
+                throw new IllegalStateException(
+                        "There is no element to remove.");
+            }
+
+            checkConcurrentModification(expectedModCount);
+            RotableArrayList.this.remove(lastReturnedIndex);
+            lastReturnedIndex = -1;
+            reset();
+            expectedModCount = modCount;
+        }
+
+        private void reset() {
+            if (finger == 0) {
+                delta = head;
+                ringStart = 0;
+            } else {
+                delta = head + finger - size;
+                ringStart = size - finger;
+            }
+        }
+    }
+
+    private final class RotableSubList extends AbstractList<E>
+            implements RotableList<E>, RandomAccess {
+
+        private final RotableSubList parent;
+        private final int offset;
+        private int size;
+
+        RotableSubList(RotableSubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.modCount = RotableArrayList.this.modCount;
+        }
+
+        @Override
+        public int size() {
+            checkConcurrentModification();
+            return size;
+        }
+
+        @Override
+        public E get(int index) {
+            checkIndex(index, size);
+            checkConcurrentModification();
+            return (E) storage[physicalIndex(offset + index)];
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkConcurrentModification();
+            int index = indexOfRange(o, offset, offset + size);
+            return index < 0 ? -1 : index - offset;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            checkConcurrentModification();
+            int index = lastIndexOfRange(o, offset, offset + size);
+            return index < 0 ? -1 : index - offset;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkIndex(index, size);
+            checkConcurrentModification();
+            int position = physicalIndex(offset + index);
+            E ret = (E) storage[position];
+            storage[position] = element;
+            return ret;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkIndex(index, size + 1);
+            checkConcurrentModification();
+            RotableArrayList.this.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> coll) {
+            return addAll(size, coll);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> coll) {
+            checkIndex(index, size + 1);
+            checkConcurrentModification();
+            int length = coll.size();
+
+            if (!RotableArrayList.this.addAll(offset + index, coll)) {
+                return false;
+            }
+
+            updateSizeAndModCount(length);
+            return true;
+        }
+
+        @Override
+        public E remove(int index) {
+            checkIndex(index, size);
+            checkConcurrentModification();
+            E ret = RotableArrayList.this.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return ret;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkSubListRange(fromIndex, toIndex, size);
+            checkConcurrentModification();
+            RotableArrayList.this.removeRange(offset + fromIndex,
+                                              offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> coll) {
+            Set<?> set = asSet(coll);
+            return removeMatching(set::contains);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> coll) {
+            Set<?> set = asSet(coll);
+            return removeMatching(element -> !set.contains(element));
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            Objects.requireNonNull(filter);
+            return removeMatching(filter);
+        }
+
+        @Override
+        public RotableList<E> subList(int fromIndex, int toIndex) {
+            checkSubListRange(fromIndex, toIndex, size);
+            checkConcurrentModification();
+            return new RotableSubList(this,
+                                      offset + fromIndex,
+                                      toIndex - fromIndex);
+        }
+
+        /**
+         * Rotates only the elements within this view. Runs in constant time
+         * if the view spans the entire list, and in linear time in the size
+         * of the view otherwise.
+         */
+        @Override
+        public void rotate(int offset) {
+            checkConcurrentModification();
+
+            if (size == 0) {
+                return;
+            }
+
+            if (size == RotableArrayList.this.size) {
+                RotableArrayList.this.rotate(offset);
+                updateSizeAndModCount(0);
+                return;
+            }
+
+            int distance = offset % size;
+
+            if (distance < 0) {
+                distance += size;
+            }
+
+            if (distance == 0) {
+                return;
+            }
+
+            int from = this.offset;
+            int to = from + size;
+            reverse(from, to);
+            reverse(from, from + distance);
+            reverse(from + distance, to);
+            // The elements moved, so the other iterators and views must
+            // notice it.
+            ++RotableArrayList.this.modCount;
+            updateSizeAndModCount(0);
+        }
+
+        /**
+         * Removes the matching elements of this view with a single
+         * compaction of its range in the backing list.
+         */
+        private boolean removeMatching(Predicate<? super E> filter) {
+            checkConcurrentModification();
+            int removed = RotableArrayList.this.removeMatching(filter,
+                                                               offset,
+                                                               offset + size);
+
+            if (removed == 0) {
+                return false;
+            }
+
+            updateSizeAndModCount(-removed);
+            return true;
+        }
+
+        private void updateSizeAndModCount(int sizeDelta) {
+            RotableSubList subList = this;
+
+            do {
+                subList.size += sizeDelta;
+                subList.modCount = RotableArrayList.this.modCount;
+                subList = subList.parent;
+            } while (subList != null);
+        }
+
+        private void checkIndex(int index, int fence) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException(
+                        "The index is negative: " + index + ".");
+            }
+
+            if (index >= fence) {
+                throw new IndexOutOfBoundsException(
+                        "The index is too large: " + index + ". " +
+                        "The size of the view is " + size + ".");
+            }
+        }
+
+        private void checkConcurrentModification() {
+            if (modCount != RotableArrayList.this.modCount) {
+                throw new ConcurrentModificationException(
+                        "Expected mod count: " + modCount + ", " +
+                        "actual mod count: " + RotableArrayList.this.modCount);
+            }
+        }
+    }
+
+    private final class RotableSpliterator implements Spliterator<E> {
+
+        private int index;
+        private int fence; // -1 until the first use.
+        private int expectedModCount;
+
+        RotableSpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+
+            if (i >= hi) {
+                return false;
+            }
+
+            index = i + 1;
+            action.accept((E) storage[physicalIndex(i)]);
+            checkConcurrentModification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            index = hi;
+            Object[] storage = RotableArrayList.this.storage;
+
+            // Walk each contiguous physical run with a plain counted loop.
+            while (i < hi) {
+                int position = physicalIndex(i);
+                int run = runLength(i, position, hi);
+
+                for (int end = position + run; position < end; ++position) {
+                    action.accept((E) storage[position]);
+                }
+
+                i += run;
+            }
+
+            checkConcurrentModification();
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+
+            if (hi - lo < 2) {
+                return null;
+            }
+
+            // Split off the first physical run if the range wraps, and split
+            // in halves otherwise.
+            int run = runLength(lo, physicalIndex(lo), hi);
+            int mid = run < hi - lo ? lo + run : (lo + hi) >>> 1;
+            index = mid;
+            return new RotableSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED |
+                   Spliterator.SIZED |
+                   Spliterator.SUBSIZED;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                fence = size;
+                expectedModCount = modCount;
+            }
+
+            return fence;
+        }
+
+        private void checkConcurrentModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException(
+                        "Expected mod count: " + expectedModCount + ", " +
+                        "actual mod count: " + modCount);
+            }
+        }
+    }
+
+    /**
+     * A reverse-ordered view of a list, as returned by {@link #reversed()}.
+     * The view stores nothing itself: every method maps its indices to the
+     * backing list and delegates to it, so writes through the view show in
+     * the backing list and vice versa. The methods that expose or configure
+     * the physical buffer throw {@link UnsupportedOperationException}.
+     */
+    private static final class ReversedView<E> extends RotableArrayList<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RotableArrayList<E> base;
+
+        ReversedView(RotableArrayList<E> base) {
+            super(0);
+            this.base = base;
+        }
+
+        @Override
+        public int size() {
+            return base.size;
+        }
+
+        @Override
+        public E get(int index) {
+            base.checkAccessIndex(index);
+            return base.get(base.size - 1 - index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            base.checkAccessIndex(index);
+            return base.set(base.size - 1 - index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            base.checkAdditionIndex(index);
+            base.add(base.size - index, element);
+        }
+
+        @Override
+        public boolean add(E element) {
+            base.add(0, element);
+            return true;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> coll) {
+            return addAll(base.size, coll);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> coll) {
+            base.checkAdditionIndex(index);
+            List<Object> elements = Arrays.asList(coll.toArray());
+            Collections.reverse(elements);
+            return base.addAll(base.size - index, (List<E>) elements);
+        }
+
+        @Override
+        public E remove(int index) {
+            base.checkAccessIndex(index);
+            return base.remove(base.size - 1 - index);
+        }
+
+        @Override
+        public void clear() {
+            base.clear();
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkSubListRange(fromIndex, toIndex, base.size);
+            base.removeRange(base.size - toIndex, base.size - fromIndex);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            int index = base.lastIndexOf(o);
+            return index < 0 ? -1 : base.size - 1 - index;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            int index = base.indexOf(o);
+            return index < 0 ? -1 : base.size - 1 - index;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return base.contains(o);
+        }
+
+        @Override
+        public void sort(Comparator<? super E> c) {
+            Object[] elements = toArray();
+            Arrays.sort(elements, (Comparator<Object>) comparatorOf(c));
+            writeBack(elements);
+        }
+
+        @Override
+        public void parallelSort(Comparator<? super E> c) {
+            Object[] elements = toArray();
+            Arrays.parallelSort(elements, (Comparator<Object>) comparatorOf(c));
+            writeBack(elements);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return base.descendingIterator();
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return base.iterator();
+        }
+
+        @Override
+        public RotableArrayList<E> reversed() {
+            return base;
+        }
+
+        @Override
+        public ListIterator<E> listIterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            base.checkAdditionIndex(index);
+            return new ReversedListIterator<>(base, index);
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            return Spliterators.spliterator(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public RotableList<E> subList(int fromIndex, int toIndex) {
+            checkSubListRange(fromIndex, toIndex, base.size);
+            return new ReversedRotableList<>(
+                    base.subList(base.size - toIndex, base.size - fromIndex));
+        }
+
+        @Override
+        public Object[] toArray() {
+            Object[] elements = base.toArray();
+            Collections.reverse(Arrays.asList(elements));
+            return elements;
+        }
+
+        @Override
+        public <T> T[] toArray(T[] a) {
+            Object[] elements = toArray();
+            int length = elements.length;
+
+            if (a.length < length) {
+                return (T[]) Arrays.copyOf(elements, length, a.getClass());
+            }
+
+            System.arraycopy(elements, 0, a, 0, length);
+
+            if (a.length > length) {
+                a[length] = null;
+            }
+
+            return a;
+        }
+
+        @Override
+        public <T> T[] toArray(IntFunction<T[]> generator) {
+            return toArray(generator.apply(0));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof List) || ((List<?>) o).size() != base.size) {
+                return false;
+            }
+
+            Iterator<?> iterator = ((List<?>) o).iterator();
+
+            for (E element : this) {
+                if (!iterator.hasNext() ||
+                    !Objects.equals(element, iterator.next())) {
+                    return false;
+                }
+            }
+
+            return !iterator.hasNext();
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+
+            for (E element : this) {
+                hashCode = 31 * hashCode + Objects.hashCode(element);
+            }
+
+            return hashCode;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return base.removeLastOccurrence(o);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> coll) {
+            return base.removeAll(coll);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> coll) {
+            return base.retainAll(coll);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            return base.removeIf(filter);
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            base.descendingIterator().forEachRemaining(action);
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<E> operator) {
+            base.replaceAll(operator);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("[");
+            String separator = "";
+
+            for (E element : this) {
+                sb.append(separator).append(element);
+                separator = ", ";
+            }
+
+            return sb.append("]").toString();
+        }
+
+        /**
+         * Returns an independent list holding the elements of this view in
+         * its order.
+         */
+        @Override
+        public RotableArrayList<E> clone() {
+            return new RotableArrayList<>(this);
+        }
+
+        @Override
+        public void rotate(int offset) {
+            base.rotate(-offset);
+        }
+
+        @Override
+        public void addFirst(E element) {
+            base.addLast(element);
+        }
+
+        @Override
+        public void addLast(E element) {
+            base.addFirst(element);
+        }
+
+        @Override
+        public boolean offerFirst(E element) {
+            return base.offerLast(element);
+        }
+
+        @Override
+        public boolean offerLast(E element) {
+            return base.offerFirst(element);
+        }
+
+        @Override
+        public E removeFirst() {
+            return base.removeLast();
+        }
+
+        @Override
+        public E removeLast() {
+            return base.removeFirst();
+        }
+
+        @Override
+        public E pollFirst() {
+            return base.pollLast();
+        }
+
+        @Override
+        public E pollLast() {
+            return base.pollFirst();
+        }
+
+        @Override
+        public E getFirst() {
+            return base.getLast();
+        }
+
+        @Override
+        public E getLast() {
+            return base.getFirst();
+        }
+
+        @Override
+        public E peekFirst() {
+            return base.peekLast();
+        }
+
+        @Override
+        public E peekLast() {
+            return base.peekFirst();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Object o) {
+            return base.removeLastOccurrence(o);
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object o) {
+            return base.removeFirstOccurrence(o);
+        }
+
+        @Override
+        public boolean offer(E element) {
+            return offerLast(element);
+        }
+
+        @Override
+        public E remove() {
+            return removeFirst();
+        }
+
+        @Override
+        public E poll() {
+            return pollFirst();
+        }
+
+        @Override
+        public E element() {
+            return getFirst();
+        }
+
+        @Override
+        public E peek() {
+            return peekFirst();
+        }
+
+        @Override
+        public void push(E element) {
+            addFirst(element);
+        }
+
+        @Override
+        public E pop() {
+            return removeFirst();
+        }
+
+        @Override
+        public void normalize() {
+            base.normalize();
+        }
+
+        @Override
+        public Object[] array() {
+            throw new UnsupportedOperationException(
+                    "A reversed view has no backing array of its own.");
+        }
+
+        @Override
+        public int arrayOffset() {
+            throw new UnsupportedOperationException(
+                    "A reversed view has no backing array of its own.");
+        }
+
+        @Override
+        public void setWindowSize(int windowSize,
+                                  Consumer<? super E> evictionListener) {
+            throw new UnsupportedOperationException(
+                    "Bound the backing list instead of its reversed view.");
+        }
+
+        @Override
+        public int getWindowSize() {
+            return base.getWindowSize();
+        }
+
+        @Override
+        public void setEditMode(boolean editMode) {
+            base.setEditMode(editMode);
+        }
+
+        @Override
+        public boolean isEditMode() {
+            return base.isEditMode();
+        }
+
+        @Override
+        public RotableArrayList<E>.Batch batch() {
+            throw new UnsupportedOperationException(
+                    "Batch the backing list instead of its reversed view.");
+        }
+
+        @Override
+        public E nextRoundRobin() {
+            E ret = getFirst();
+            base.rotate(1);
+            return ret;
+        }
+
+        @Override
+        public E rotateAndGet(int offset) {
+            if (base.size == 0) {
+                throw new NoSuchElementException("The list is empty.");
+            }
+
+            rotate(offset);
+            return getFirst();
+        }
+
+        @Override
+        public int drainFront(int count, Consumer<? super E> action) {
+            Objects.requireNonNull(action, "The action is null.");
+            int drained = 0;
+
+            while (drained < count && base.size > 0) {
+                E element = base.removeLast();
+                ++drained;
+                action.accept(element);
+            }
+
+            return drained;
+        }
+
+        @Override
+        public void ensureCapacity(int minCapacity) {
+            base.ensureCapacity(minCapacity);
+        }
+
+        @Override
+        public void trimToSize() {
+            base.trimToSize();
+        }
+
+        @Override
+        public int binarySearch(E key, Comparator<? super E> c) {
+            int size = base.size;
+            int index = base.binarySearch(key,
+                                          Collections.reverseOrder(c));
+
+            // The backing list is sorted in the reverse order, so its first
+            // element smaller than the key follows the last greater one here.
+            return index >= 0 ? size - 1 - index : -(size + index + 1) - 1;
+        }
+
+        @Override
+        public int findRotationOffset(Comparator<? super E> c) {
+            int offset = base.findRotationOffset(Collections.reverseOrder(c));
+            return offset == 0 ? 0 : base.size - offset;
+        }
+
+        /**
+         * Stores {@code elements}, given in the order of this view, into the
+         * backing list.
+         */
+        private void writeBack(Object[] elements) {
+            int size = base.size;
+
+            for (int i = 0; i < size; ++i) {
+                base.storage[base.physicalIndex(size - 1 - i)] = elements[i];
+            }
+
+            ++base.modCount;
+        }
+
+        /**
+         * Serializes this view as an independent list.
+         */
+        private Object writeReplace() {
+            return new RotableArrayList<>(this);
+        }
+    }
+
+    /**
+     * Iterates over a list backwards by swapping the directions of a list
+     * iterator over the backing list.
+     */
+    private static final class ReversedListIterator<E>
+            implements ListIterator<E> {
+
+        private final List<E> list;
+        private final ListIterator<E> iterator;
+
+        // Whether the last move allows removal or replacement.
+        private boolean canModify;
+
+        ReversedListIterator(List<E> list, int index) {
+            this.list = list;
+            this.iterator = list.listIterator(list.size() - index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasPrevious();
+        }
+
+        @Override
+        public E next() {
+            E ret = iterator.previous();
+            canModify = true;
+            return ret;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public E previous() {
+            E ret = iterator.next();
+            canModify = true;
+            return ret;
+        }
+
+        @Override
+        public int nextIndex() {
+            return list.size() - iterator.nextIndex();
+        }
+
+        @Override
         public int previousIndex() {
-            return index - 1;
+            return nextIndex() - 1;
         }
 
         @Override
         public void remove() {
-            if (indexOfIteratedElement == -1) {
+            if (!canModify) {
                 throw new IllegalStateException(
                         "There is no element to remove.");
             }
-            
-            checkConcurrentModification();
-            E ret = RotableArrayList.this.remove(indexOfIteratedElement);
-            indexOfIteratedElement = -1;
-            expectedModCount = RotableArrayList.super.modCount;
-        
-            if (lastMoveWasNext) {
-                index--;
-            }
+
+            iterator.remove();
+            canModify = false;
         }
 
         @Override
         public void set(E e) {
-            if (indexOfIteratedElement == -1) {
+            if (!canModify) {
                 throw new IllegalStateException("There is no current element.");
             }
-            
-            checkConcurrentModification();
-            RotableArrayList.this.set(indexOfIteratedElement, e);
-            expectedModCount = RotableArrayList.super.modCount;
+
+            iterator.set(e);
         }
 
         @Override
         public void add(E e) {
-            checkConcurrentModification(); 
-            RotableArrayList.this.add(nextIndex(), e);
-            index++;
-            indexOfIteratedElement = -1;
-            expectedModCount = RotableArrayList.super.modCount;
+            // The new element must precede the cursor of this iterator, that
+            // is, follow the cursor of the backing one.
+            iterator.add(e);
+            iterator.previous();
+            canModify = false;
         }
-        
-        private void checkConcurrentModification() {
-            if (expectedModCount != RotableArrayList.super.modCount) {
-                throw new ConcurrentModificationException(
-                        "Expected mod count: " + expectedModCount + ", " + 
-                        "actual mod count: " + RotableArrayList.super.modCount);
-            }
+    }
+
+    /**
+     * A reverse-ordered view of a rotable list, used for the sublists of a
+     * {@link ReversedView}. Out-of-range indices map to out-of-range indices
+     * of the backing list, which rejects them.
+     */
+    private static final class ReversedRotableList<E> extends AbstractList<E>
+            implements RotableList<E>, RandomAccess {
+
+        private final RotableList<E> base;
+
+        ReversedRotableList(RotableList<E> base) {
+            this.base = base;
+        }
+
+        @Override
+        public int size() {
+            return base.size();
+        }
+
+        @Override
+        public E get(int index) {
+            return base.get(base.size() - 1 - index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            return base.set(base.size() - 1 - index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            base.add(base.size() - index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            return base.remove(base.size() - 1 - index);
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            int size = base.size();
+            base.subList(size - toIndex, size - fromIndex).clear();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            return new ReversedListIterator<>(base, index);
+        }
+
+        @Override
+        public RotableList<E> subList(int fromIndex, int toIndex) {
+            int size = base.size();
+            return new ReversedRotableList<>(
+                    base.subList(size - toIndex, size - fromIndex));
+        }
+
+        @Override
+        public void rotate(int offset) {
+            base.rotate(-offset);
         }
     }
-    
+
     public static void main(String[] args) {
         RotableArrayList<Integer> list = new RotableArrayList<>();
 
@@ -0,0 +1,33 @@
+package net.coderodde.util;
+
+import java.util.List;
+
+/**
+ * This interface defines the API for lists that can be rotated.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+public interface RotableList<E> extends List<E> {
+
+    /**
+     * Rotates this list {@code offset} positions to the right: the element at
+     * index {@code i} moves to the index {@code (i + offset) mod size()}. A
+     * negative offset rotates to the left.
+     *
+     * @param offset the rotation distance.
+     */
+    public void rotate(int offset);
+
+    /**
+     * Returns a view of the range {@code [fromIndex, toIndex)} of this list,
+     * as specified by {@link List#subList(int, int)}. The view can be rotated
+     * on its own.
+     *
+     * @param fromIndex the starting index of the view, inclusive.
+     * @param toIndex   the ending index of the view, exclusive.
+     * @return a rotable view of the range.
+     */
+    @Override
+    public RotableList<E> subList(int fromIndex, int toIndex);
+}
@@ -0,0 +1,609 @@
+package net.coderodde.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class implements a rotable list of {@code long} values. It works just
+ * like {@link RotableArrayList}, but keeps the values unboxed in a circular
+ * {@code long[]} buffer. Rotation runs in constant time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+public class RotableLongList {
+
+    /**
+     * The default capacity of the circular buffer. Must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The largest capacity of the circular buffer.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The circular buffer. Its length is always a power of two.
+     */
+    private long[] storage;
+
+    /**
+     * The physical index of the first ring element in {@code storage}.
+     */
+    private int head;
+
+    /**
+     * The number of values in this list.
+     */
+    private int size;
+
+    /**
+     * The logical value at index {@code i} is the ring value at index
+     * {@code (i + finger) % size}.
+     */
+    private int finger;
+
+    private int modCount;
+
+    public RotableLongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RotableLongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "The initial capacity is negative: " +
+                    initialCapacity + ".");
+        }
+
+        storage = new long[capacityFor(initialCapacity)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getLong(int index) {
+        checkAccessIndex(index);
+        return storage[physicalIndex(index)];
+    }
+
+    public long setLong(int index, long value) {
+        checkAccessIndex(index);
+        int position = physicalIndex(index);
+        long ret = storage[position];
+        storage[position] = value;
+        return ret;
+    }
+
+    public void addLong(long value) {
+        addLong(size, value);
+    }
+
+    public void addLong(int index, long value) {
+        checkAdditionIndex(index);
+        settle();
+        ensureCapacity(size + 1);
+        int mask = storage.length - 1;
+
+        if (index < size - index) {
+            // Shift the prefix one position to the left.
+            int newHead = (head - 1) & mask;
+            moveElements(head, newHead, index);
+            head = newHead;
+        } else {
+            // Shift the suffix one position to the right.
+            int position = (head + index) & mask;
+            moveElements(position, (position + 1) & mask, size - index);
+        }
+
+        storage[(head + index) & mask] = value;
+        ++size;
+        ++modCount;
+    }
+
+    public long removeLong(int index) {
+        checkRemovalIndex(index);
+        settle();
+        int mask = storage.length - 1;
+        int position = (head + index) & mask;
+        long ret = storage[position];
+
+        if (index < size - index - 1) {
+            // Shift the prefix one position to the right.
+            moveElements(head, (head + 1) & mask, index);
+            head = (head + 1) & mask;
+        } else {
+            // Shift the suffix one position to the left.
+            moveElements((position + 1) & mask, position, size - index - 1);
+        }
+
+        --size;
+        ++modCount;
+        return ret;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        finger = 0;
+        ++modCount;
+    }
+
+    public void rotate(int offset) {
+        if (size == 0) {
+            return;
+        }
+
+        finger -= offset % size;
+        finger %= size;
+
+        if (finger < 0) {
+            finger += size;
+        }
+
+        if (size == storage.length) {
+            // The ring is full so settling is a mere head adjustment.
+            settle();
+        }
+
+        // Rotation changes the element at every index, so the iterators must
+        // notice it.
+        ++modCount;
+    }
+
+    public int indexOf(long value) {
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int run = runLength(index, position, size);
+
+            for (int i = 0; i < run; ++i) {
+                if (storage[position + i] == value) {
+                    return index + i;
+                }
+            }
+
+            index += run;
+        }
+
+        return -1;
+    }
+
+    public int lastIndexOf(long value) {
+        for (int index = size - 1; index >= 0;) {
+            int position = physicalIndex(index);
+            int run = backwardRunLength(index, position, 0);
+
+            for (int i = 0; i < run; ++i) {
+                if (storage[position - i] == value) {
+                    return index - i;
+                }
+            }
+
+            index -= run;
+        }
+
+        return -1;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) != -1;
+    }
+
+    public long[] toArray() {
+        long[] array = new long[size];
+
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int run = runLength(index, position, size);
+            System.arraycopy(storage, position, array, index, run);
+            index += run;
+        }
+
+        return array;
+    }
+
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int run = runLength(index, position, size);
+
+            for (int end = position + run; position < end; ++position) {
+                action.accept(storage[position]);
+            }
+
+            index += run;
+        }
+
+        checkConcurrentModification(expectedModCount);
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    public Spliterator.OfLong spliterator() {
+        return new RotableLongSpliterator(0, -1, 0);
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * Makes sure that the circular buffer can accommodate at least
+     * {@code minCapacity} values without resizing.
+     *
+     * @param minCapacity the requested minimum capacity.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > storage.length) {
+            resize(capacityFor(minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the circular buffer to the smallest power of two that can
+     * accommodate the current values.
+     */
+    public void trimToSize() {
+        int capacity = capacityFor(size);
+
+        if (capacity < storage.length) {
+            resize(capacity);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+
+        if (!(o instanceof RotableLongList)) {
+            return false;
+        }
+
+        RotableLongList other = (RotableLongList) o;
+
+        if (other.size != size) {
+            return false;
+        }
+
+        for (int index = 0; index < size; ++index) {
+            long value = storage[physicalIndex(index)];
+            long otherValue = other.storage[other.physicalIndex(index)];
+
+            if (value != otherValue) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int run = runLength(index, position, size);
+
+            for (int end = position + run; position < end; ++position) {
+                hashCode = 31 * hashCode + Long.hashCode(storage[position]);
+            }
+
+            index += run;
+        }
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        String separator = "";
+
+        for (int index = 0; index < size;) {
+            int position = physicalIndex(index);
+            int run = runLength(index, position, size);
+
+            for (int end = position + run; position < end; ++position) {
+                sb.append(separator).append(storage[position]);
+                separator = ", ";
+            }
+
+            index += run;
+        }
+
+        return sb.append("]").toString();
+    }
+
+    /**
+     * Returns the physical index of the logical value at index
+     * {@code index}.
+     */
+    private int physicalIndex(int index) {
+        int ringIndex = index + finger;
+
+        if (ringIndex >= size) {
+            ringIndex -= size;
+        }
+
+        return (head + ringIndex) & (storage.length - 1);
+    }
+
+    /**
+     * Returns the number of logical values, starting from the logical index
+     * {@code index} and not reaching {@code toIndex}, that are stored
+     * contiguously from the physical index {@code position} on.
+     */
+    private int runLength(int index, int position, int toIndex) {
+        int limit = index < size - finger ?
+                    Math.min(toIndex, size - finger) :
+                    toIndex;
+
+        return Math.min(limit - index, storage.length - position);
+    }
+
+    /**
+     * Returns the number of logical values, ending at the logical index
+     * {@code index} and not going below {@code fromIndex}, that are stored
+     * contiguously up to the physical index {@code position}.
+     */
+    private int backwardRunLength(int index, int position, int fromIndex) {
+        int limit = index >= size - finger ?
+                    Math.max(fromIndex, size - finger) :
+                    fromIndex;
+
+        return Math.min(index - limit + 1, position + 1);
+    }
+
+    /**
+     * Moves the ring values so that the logical value at index 0 becomes the
+     * first ring value, and resets the finger.
+     */
+    private void settle() {
+        if (finger == 0) {
+            return;
+        }
+
+        int mask = storage.length - 1;
+
+        if (size == storage.length) {
+            head = (head + finger) & mask;
+        } else if (finger <= size - finger) {
+            for (int i = 0; i < finger; ++i) {
+                storage[(head + size + i) & mask] = storage[(head + i) & mask];
+            }
+
+            head = (head + finger) & mask;
+        } else {
+            int count = size - finger;
+
+            for (int i = 1; i <= count; ++i) {
+                storage[(head - i) & mask] = storage[(head + size - i) & mask];
+            }
+
+            head = (head - count) & mask;
+        }
+
+        finger = 0;
+    }
+
+    /**
+     * Moves {@code length} values starting from the physical index
+     * {@code source} to the run starting from the physical index
+     * {@code target}. Both runs may wrap around the end of the buffer, and
+     * they may overlap.
+     */
+    private void moveElements(int source, int target, int length) {
+        int capacity = storage.length;
+        int mask = capacity - 1;
+
+        if (((target - source) & mask) < length) {
+            int remaining = length;
+
+            while (remaining > 0) {
+                int sourceLast = (source + remaining - 1) & mask;
+                int targetLast = (target + remaining - 1) & mask;
+                int chunk = Math.min(remaining,
+                                     Math.min(sourceLast, targetLast) + 1);
+                System.arraycopy(storage,
+                                 sourceLast - chunk + 1,
+                                 storage,
+                                 targetLast - chunk + 1,
+                                 chunk);
+                remaining -= chunk;
+            }
+        } else {
+            int done = 0;
+
+            while (done < length) {
+                int from = (source + done) & mask;
+                int to = (target + done) & mask;
+                int chunk = Math.min(length - done,
+                                     capacity - Math.max(from, to));
+                System.arraycopy(storage, from, storage, to, chunk);
+                done += chunk;
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        settle();
+        long[] newStorage = new long[capacity];
+        int chunk = Math.min(size, storage.length - head);
+        System.arraycopy(storage, head, newStorage, 0, chunk);
+        System.arraycopy(storage, 0, newStorage, chunk, size - chunk);
+        storage = newStorage;
+        head = 0;
+    }
+
+    private static int capacityFor(int minCapacity) {
+        if (minCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException(
+                    "The requested capacity is too large: " +
+                    minCapacity + ".");
+        }
+
+        return Math.max(DEFAULT_CAPACITY,
+                        Integer.highestOneBit(minCapacity - 1) << 1);
+    }
+
+    private void checkConcurrentModification(int expectedModCount) {
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException(
+                    "Expected mod count: " + expectedModCount + ", " +
+                    "actual mod count: " + modCount);
+        }
+    }
+
+    private void checkAccessIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is negative: " + index + ".");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The access index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private void checkAdditionIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is negative: " + index + ".");
+        }
+
+        if (index > size) {
+            throw new IndexOutOfBoundsException(
+                    "The addition index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private void checkRemovalIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is negative: " + index + ".");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "The removal index is too large: " + index + ". " +
+                    "The size of the list is " + size + ".");
+        }
+    }
+
+    private final class RotableLongSpliterator
+            implements Spliterator.OfLong {
+
+        private int index;
+        private int fence; // -1 until the first use.
+        private int expectedModCount;
+
+        RotableLongSpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+
+            if (i >= hi) {
+                return false;
+            }
+
+            index = i + 1;
+            action.accept(storage[physicalIndex(i)]);
+            checkConcurrentModification(expectedModCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            index = hi;
+            long[] storage = RotableLongList.this.storage;
+
+            while (i < hi) {
+                int position = physicalIndex(i);
+                int run = runLength(i, position, hi);
+
+                for (int end = position + run; position < end; ++position) {
+                    action.accept(storage[position]);
+                }
+
+                i += run;
+            }
+
+            checkConcurrentModification(expectedModCount);
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int hi = getFence();
+            int lo = index;
+
+            if (hi - lo < 2) {
+                return null;
+            }
+
+            int run = runLength(lo, physicalIndex(lo), hi);
+            int mid = run < hi - lo ? lo + run : (lo + hi) >>> 1;
+            index = mid;
+            return new RotableLongSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED |
+                   Spliterator.SIZED |
+                   Spliterator.SUBSIZED;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                fence = size;
+                expectedModCount = modCount;
+            }
+
+            return fence;
+        }
+    }
+}
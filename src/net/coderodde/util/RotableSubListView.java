@@ -0,0 +1,72 @@
+package net.coderodde.util;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * This class adapts a sublist of a rotable list to the {@link RotableList}
+ * interface. Every method delegates to the wrapped sublist, and rotation is
+ * done with {@link Collections#rotate(List, int)} over it, which runs in time
+ * linear in the size of the view. Like that method, rotating the view only
+ * sets elements, so it does not invalidate the iterators of the backing list.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+final class RotableSubListView<E> extends AbstractList<E>
+        implements RotableList<E>, RandomAccess {
+
+    private final List<E> view;
+
+    RotableSubListView(List<E> view) {
+        this.view = view;
+    }
+
+    @Override
+    public int size() {
+        return view.size();
+    }
+
+    @Override
+    public E get(int index) {
+        return view.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return view.set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        view.add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        return view.remove(index);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        view.subList(fromIndex, toIndex).clear();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return view.listIterator(index);
+    }
+
+    @Override
+    public RotableList<E> subList(int fromIndex, int toIndex) {
+        return new RotableSubListView<>(view.subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public void rotate(int offset) {
+        Collections.rotate(view, offset);
+    }
+}
@@ -0,0 +1,278 @@
+package net.coderodde.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This class implements a bounded, lock-free ring for handing elements from
+ * exactly one producer thread to exactly one consumer thread. The producer
+ * appends at the logical tail via {@link #offer(Object)}; the consumer reads
+ * and advances the logical head via {@link #peek()}, {@link #poll()},
+ * {@link #drain(Consumer, int)} and {@link #advance(int)}. The handoff relies
+ * solely on acquire/release ordering of the head and tail counters, which live
+ * on separate cache lines. Any thread may call {@link #size()} and
+ * {@link #get(int)}.
+ * <p>
+ * This class does not permit {@code null} elements.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0 (Oct 16, 2026)
+ */
+public class SpscRotableRing<E> extends SpscRotableRingHeadPadding {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle SLOTS =
+            MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscRotableRingHead.class,
+                                        "head",
+                                        long.class);
+            TAIL = lookup.findVarHandle(SpscRotableRingTail.class,
+                                        "tail",
+                                        long.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private final Object[] slots;
+    private final int mask;
+
+    public SpscRotableRing(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "Bad capacity: " + capacity + ".");
+        }
+
+        slots = new Object[capacity == 1 ?
+                           1 :
+                           Integer.highestOneBit(capacity - 1) << 1];
+        mask = slots.length - 1;
+    }
+
+    /**
+     * Returns the number of slots in this ring. May exceed the requested
+     * capacity, as it is rounded up to a power of two.
+     *
+     * @return the capacity of this ring.
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Appends {@code element} at the tail. May be called only by the producer.
+     *
+     * @param element the element to append.
+     * @return {@code true} if appended, {@code false} if the ring is full.
+     */
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "The element is null.");
+        long tail = this.tail;
+
+        if (tail - headCache >= slots.length) {
+            headCache = (long) HEAD.getAcquire(this);
+
+            if (tail - headCache >= slots.length) {
+                return false;
+            }
+        }
+
+        // The release store orders the slot after the consumer's release of
+        // the head, which lets get() validate its read.
+        SLOTS.setRelease(slots, (int) tail & mask, element);
+        TAIL.setRelease(this, tail + 1);
+        return true;
+    }
+
+    /**
+     * Returns the element at the head without removing it, or {@code null} if
+     * the ring is empty. May be called only by the consumer.
+     *
+     * @return the head element or {@code null}.
+     */
+    public E peek() {
+        long head = this.head;
+
+        if (head >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+
+            if (head >= tailCache) {
+                return null;
+            }
+        }
+
+        return (E) slots[(int) head & mask];
+    }
+
+    /**
+     * Removes and returns the element at the head, or returns {@code null} if
+     * the ring is empty. May be called only by the consumer.
+     *
+     * @return the head element or {@code null}.
+     */
+    public E poll() {
+        long head = this.head;
+
+        if (head >= tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+
+            if (head >= tailCache) {
+                return null;
+            }
+        }
+
+        int position = (int) head & mask;
+        E ret = (E) slots[position];
+        slots[position] = null;
+        HEAD.setRelease(this, head + 1);
+        return ret;
+    }
+
+    /**
+     * Removes at most {@code limit} elements from the head and passes them to
+     * {@code action} in order. The head is published once for the entire
+     * batch. Each element is removed before it is passed on, so if
+     * {@code action} throws, the element it threw on is removed and the
+     * remaining ones stay in the ring. May be called only by the consumer.
+     *
+     * @param action the action to perform on each element.
+     * @param limit  the maximum number of elements to remove.
+     * @return the number of elements removed.
+     */
+    public int drain(Consumer<? super E> action, int limit) {
+        Objects.requireNonNull(action);
+        long head = this.head;
+        long tail = (long) TAIL.getAcquire(this);
+        tailCache = tail;
+        int count = (int) Math.min(Math.max(limit, 0), tail - head);
+        int removed = 0;
+
+        try {
+            while (removed < count) {
+                int position = (int) (head + removed) & mask;
+                E element = (E) slots[position];
+                slots[position] = null;
+                ++removed;
+                action.accept(element);
+            }
+        } finally {
+            // Publish exactly the nulled slots, even if the action threw.
+            HEAD.setRelease(this, head + removed);
+        }
+
+        return count;
+    }
+
+    /**
+     * Rotates the logical head past at most {@code count} elements, dropping
+     * them. May be called only by the consumer.
+     *
+     * @param count the maximum number of elements to skip.
+     * @return the number of elements skipped.
+     */
+    public int advance(int count) {
+        long head = this.head;
+        long tail = (long) TAIL.getAcquire(this);
+        tailCache = tail;
+        int skipped = (int) Math.min(Math.max(count, 0), tail - head);
+
+        for (int i = 0; i < skipped; ++i) {
+            slots[(int) (head + i) & mask] = null;
+        }
+
+        HEAD.setRelease(this, head + skipped);
+        return skipped;
+    }
+
+    /**
+     * Returns the element at the logical index {@code index} counting from
+     * the head. Wait-free and callable from any thread: the read is validated
+     * against the head afterwards instead of being retried.
+     *
+     * @param index the index of the element, counting from the head.
+     * @return the element.
+     * @throws IndexOutOfBoundsException       if the index is outside of the
+     *                                         ring at the time of the call.
+     * @throws ConcurrentModificationException if the consumer removed the
+     *                                         element during the read.
+     */
+    public E get(int index) {
+        long head = (long) HEAD.getAcquire(this);
+        long tail = (long) TAIL.getAcquire(this);
+
+        if (index < 0 || index >= tail - head) {
+            throw new IndexOutOfBoundsException(
+                    "The index is out of range: " + index + ". " +
+                    "The size of the ring is " + (tail - head) + ".");
+        }
+
+        long position = head + index;
+        Object element = SLOTS.getAcquire(slots, (int) position & mask);
+
+        if (element == null || (long) HEAD.getAcquire(this) > position) {
+            throw new ConcurrentModificationException(
+                    "The element at index " + index + " was removed " +
+                    "during the read.");
+        }
+
+        return (E) element;
+    }
+
+    /**
+     * Returns the number of elements in this ring at some moment during the
+     * call.
+     *
+     * @return the number of elements.
+     */
+    public int size() {
+        // Read the head first: the tail only grows, so the difference never
+        // gets negative.
+        long head = (long) HEAD.getAcquire(this);
+        long tail = (long) TAIL.getAcquire(this);
+        return (int) (tail - head);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
+
+// The classes below lay out the fields so that the producer's state and the
+// consumer's state each sit on a cache line of their own.
+
+abstract class SpscRotableRingPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+}
+
+abstract class SpscRotableRingTail extends SpscRotableRingPadding {
+
+    // Written only by the producer. Other threads read it via getAcquire.
+    long tail;
+    long headCache;
+}
+
+abstract class SpscRotableRingTailPadding extends SpscRotableRingTail {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+    long p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+}
+
+abstract class SpscRotableRingHead extends SpscRotableRingTailPadding {
+
+    // Written only by the consumer. Other threads read it via getAcquire.
+    long head;
+    long tailCache;
+}
+
+abstract class SpscRotableRingHeadPadding extends SpscRotableRingHead {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+    long p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+}
@@ -0,0 +1,305 @@
+package net.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ConcurrentRotableListTest {
+
+    @Test
+    public void testAgainstArrayList() {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+        List<Integer> reference = new ArrayList<>();
+        Random random = new Random(13L);
+
+        for (int step = 0; step < 5_000; ++step) {
+            int size = reference.size();
+            int operation = random.nextInt(5);
+
+            if (operation == 0 || size == 0) {
+                int index = random.nextInt(size + 1);
+                list.add(index, step);
+                reference.add(index, step);
+            } else if (operation == 1) {
+                int index = random.nextInt(size);
+                assertEquals(reference.remove(index), list.remove(index));
+            } else if (operation == 2) {
+                int offset = random.nextInt(2 * size + 1) - size;
+                list.rotate(offset);
+                Collections.rotate(reference, offset);
+            } else if (operation == 3) {
+                int index = random.nextInt(size);
+                assertEquals(reference.set(index, -step),
+                             list.set(index, -step));
+            } else {
+                list.add(step);
+                reference.add(step);
+            }
+
+            assertEquals(reference.size(), list.size());
+        }
+
+        assertEquals(reference, list);
+        assertEquals(reference, Arrays.asList(list.toArray()));
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testSubListRotate() {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+
+        for (int i = 0; i < 7; ++i) {
+            list.add(i);
+        }
+
+        list.rotate(2); // 5, 6, 0, 1, 2, 3, 4
+        RotableList<Integer> subList = list.subList(1, 5); // 6, 0, 1, 2
+        subList.rotate(1);
+
+        assertEquals(Arrays.asList(2, 6, 0, 1), subList);
+        assertEquals(Arrays.asList(5, 2, 6, 0, 1, 3, 4), list);
+
+        subList.subList(1, 4).rotate(-1);
+
+        assertEquals(Arrays.asList(2, 0, 1, 6), subList);
+        assertEquals(Arrays.asList(5, 2, 0, 1, 6, 3, 4), list);
+    }
+
+    @Test
+    public void testIteratorIsSnapshot() {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+
+        for (int i = 0; i < 5; ++i) {
+            list.add(i);
+        }
+
+        list.rotate(2);
+        Iterator<Integer> iterator = list.iterator();
+        list.add(5);
+        list.rotate(1);
+        List<Integer> seen = new ArrayList<>();
+        iterator.forEachRemaining(seen::add);
+
+        assertEquals(Arrays.asList(3, 4, 0, 1, 2), seen);
+
+        try {
+            list.iterator().remove();
+            fail("Snapshot iterators should not support removal.");
+        } catch (IllegalStateException | UnsupportedOperationException ex) {
+        }
+    }
+
+    @Test
+    public void testBulkMutatorsOnWrappedRing() {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+        List<Integer> reference = new ArrayList<>();
+
+        for (int i = 0; i < 13; ++i) {
+            list.add(i);
+            reference.add(i);
+        }
+
+        // Make the ring wrap around the end of the buffer and leave the
+        // finger unsettled.
+        for (int i = 0; i < 6; ++i) {
+            list.remove(0);
+            reference.remove(0);
+            list.add(100 + i);
+            reference.add(100 + i);
+        }
+
+        list.rotate(4);
+        Collections.rotate(reference, 4);
+        assertEquals(reference, list);
+
+        assertTrue(list.removeIf(e -> e % 3 == 0));
+        assertTrue(reference.removeIf(e -> e % 3 == 0));
+        assertEquals(reference, list);
+        assertFalse(list.removeIf(e -> e < 0));
+
+        assertTrue(list.removeAll(Arrays.asList(7, 101, 1000)));
+        reference.removeAll(Arrays.asList(7, 101, 1000));
+        assertEquals(reference, list);
+
+        assertTrue(list.retainAll(Arrays.asList(8, 10, 11, 104, 105)));
+        reference.retainAll(Arrays.asList(8, 10, 11, 104, 105));
+        assertEquals(reference, list);
+        assertFalse(list.retainAll(list));
+
+        list.replaceAll(e -> -e);
+        reference.replaceAll(e -> -e);
+        assertEquals(reference, list);
+
+        list.sort(null);
+        reference.sort(null);
+        assertEquals(reference, list);
+
+        list.sort(Collections.reverseOrder());
+        reference.sort(Collections.reverseOrder());
+        assertEquals(reference, list);
+
+        list.subList(1, 3).clear();
+        reference.subList(1, 3).clear();
+        assertEquals(reference, list);
+
+        assertTrue(list.removeAll(list));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = 10_000)
+    public void testBulkRemovalOfOwnView() {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+
+        for (int i = 0; i < 10; ++i) {
+            list.add(i);
+        }
+
+        list.rotate(2); // 8, 9, 0, 1, 2, 3, 4, 5, 6, 7
+
+        assertTrue(list.removeAll(list.subList(0, 3)));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7), list);
+        assertTrue(list.retainAll(list.subList(2, 5)));
+        assertEquals(Arrays.asList(3, 4, 5), list);
+        assertFalse(list.retainAll(list));
+        assertTrue(list.removeAll(list));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testAddAll() {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+        List<Integer> reference = new ArrayList<>();
+
+        for (int i = 0; i < 6; ++i) {
+            list.add(i);
+            reference.add(i);
+        }
+
+        list.rotate(4);
+        Collections.rotate(reference, 4);
+
+        assertFalse(list.addAll(Collections.emptyList()));
+        assertTrue(list.addAll(Arrays.asList(10, 11, 12)));
+        reference.addAll(Arrays.asList(10, 11, 12));
+        assertTrue(list.addAll(1, Arrays.asList(20, 21, 22, 23, 24)));
+        reference.addAll(1, Arrays.asList(20, 21, 22, 23, 24));
+        assertTrue(list.addAll(12, Arrays.asList(30, 31)));
+        reference.addAll(12, Arrays.asList(30, 31));
+        assertTrue(list.addAll(list.subList(0, 3)));
+        reference.addAll(reference.subList(0, 3));
+        assertTrue(list.addAll(0, list));
+        reference.addAll(0, new ArrayList<>(reference));
+
+        assertEquals(reference, list);
+    }
+
+    @Test
+    public void testAddAllIsAtomic() throws Exception {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+        List<Integer> batch = Collections.nCopies(200_000, 1);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Integer> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                int size = list.size();
+
+                if (size % batch.size() != 0) {
+                    failure.set(size);
+                }
+
+                Thread.yield();
+            }
+        });
+
+        reader.start();
+
+        for (int i = 0; i < 5; ++i) {
+            list.addAll(batch);
+            list.addAll(list.size() / 2, batch);
+            Thread.yield();
+        }
+
+        done.set(true);
+        reader.join();
+        assertNull(failure.get());
+        assertEquals(10 * batch.size(), list.size());
+    }
+
+    @Test
+    public void testSortAfterRotation() {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+        List<Integer> reference = new ArrayList<>();
+        Random random = new Random(17L);
+
+        for (int i = 0; i < 100; ++i) {
+            int value = random.nextInt(50);
+            list.add(value);
+            reference.add(value);
+        }
+
+        list.rotate(37);
+        list.sort(Comparator.naturalOrder());
+        Collections.sort(reference);
+        assertEquals(reference, list);
+        assertEquals(reference, Arrays.asList(list.toArray()));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetThrowsOnBadIndex() {
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void testReadersSeeConsistentRotations() throws Exception {
+        int size = 64;
+        ConcurrentRotableList<Integer> list = new ConcurrentRotableList<>();
+
+        for (int i = 0; i < size; ++i) {
+            list.add(i);
+        }
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                Object[] snapshot = list.toArray();
+                int first = (Integer) snapshot[0];
+
+                // Any rotation of 0, 1, ..., size - 1 is consecutive modulo
+                // size; a torn read would break the sequence.
+                for (int i = 1; i < snapshot.length; ++i) {
+                    if ((Integer) snapshot[i] != (first + i) % size) {
+                        failure.set(Arrays.toString(snapshot));
+                    }
+                }
+
+                Thread.yield();
+            }
+        });
+
+        reader.start();
+
+        for (int i = 0; i < 20_000; ++i) {
+            list.rotate(i % 7 - 3);
+
+            if (i % 16 == 0) {
+                Thread.yield();
+            }
+        }
+
+        done.set(true);
+        reader.join();
+        assertNull(failure.get());
+    }
+}
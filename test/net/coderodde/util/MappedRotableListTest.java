@@ -0,0 +1,162 @@
+package net.coderodde.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class MappedRotableListTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MappedRotableList<Long> open(File file) throws IOException {
+        return new MappedRotableList<>(file.toPath(), 
+                                       ElementCodec.LONG,
+                                       MappedRotableList.SyncPolicy.MANUAL);
+    }
+
+    @Test
+    public void testReopen() throws IOException {
+        File file = folder.newFile();
+        List<Long> list2 = new ArrayList<>();
+
+        try (MappedRotableList<Long> list = open(file)) {
+            for (long i = 0; i < 100; ++i) {
+                list.add(i);
+                list2.add(i);
+            }
+
+            list.rotate(37);
+            Collections.rotate(list2, 37);
+            list.add(0, -1L);
+            list2.add(0, -1L);
+            list.rotate(-5);
+            Collections.rotate(list2, -5);
+            
+            assertEquals(list2, list);
+        }
+
+        try (MappedRotableList<Long> list = open(file)) {
+            assertEquals(list2, list);
+            
+            list.remove(list.size() - 1);
+            list2.remove(list2.size() - 1);
+        }
+        
+        try (MappedRotableList<Long> list = open(file)) {
+            assertEquals(list2, list);
+        }
+    }
+
+    @Test
+    public void testTornHeaderSlotFallsBack() throws IOException {
+        File file = folder.newFile();
+
+        try (MappedRotableList<Long> list = open(file)) {
+            list.addAll(Arrays.asList(1L, 2L, 3L));
+            list.rotate(1); // The latest header slot.
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            // Tear the latest header slot, the one with the larger sequence.
+            long sequence0 = Long.reverseBytes(readLong(raf, 16));
+            long sequence1 = Long.reverseBytes(readLong(raf, 48));
+            long latestOffset = sequence0 > sequence1 ? 16 : 48;
+            raf.seek(latestOffset + 16);
+            raf.writeInt(12345);
+        }
+
+        try (MappedRotableList<Long> list = open(file)) {
+            // The rotation is lost, the state before it is intact.
+            assertEquals(Arrays.asList(1L, 2L, 3L), list);
+        }
+    }
+
+    private static long readLong(RandomAccessFile raf, long offset) 
+            throws IOException {
+        raf.seek(offset);
+        return raf.readLong();
+    }
+
+    @Test
+    public void testEveryUpdatePolicy() throws IOException {
+        File file = folder.newFile();
+        
+        try (MappedRotableList<Long> list = 
+                new MappedRotableList<>(
+                        file.toPath(),
+                        ElementCodec.LONG,
+                        MappedRotableList.SyncPolicy.EVERY_UPDATE)) {
+            list.add(1L);
+            list.add(0, 2L);
+            list.rotate(1);
+            
+            assertEquals(Arrays.asList(1L, 2L), list);
+        }
+    }
+
+    @Test
+    public void testRotationInvalidatesIterators() throws IOException {
+        try (MappedRotableList<Long> list = open(folder.newFile())) {
+            for (long i = 0; i < 5; ++i) {
+                list.add(i);
+            }
+
+            Iterator<Long> iterator = list.iterator();
+            iterator.next();
+            list.rotate(1);
+
+            try {
+                iterator.next();
+                fail("Rotation should invalidate the iterator.");
+            } catch (ConcurrentModificationException ex) {
+            }
+        }
+    }
+
+    @Test
+    public void testSubListRotate() throws IOException {
+        try (MappedRotableList<Long> list = open(folder.newFile())) {
+            for (long i = 0; i < 7; ++i) {
+                list.add(i);
+            }
+
+            list.rotate(2); // 5, 6, 0, 1, 2, 3, 4
+            RotableList<Long> subList = list.subList(1, 5); // 6, 0, 1, 2
+            subList.rotate(1);
+
+            assertEquals(Arrays.asList(2L, 6L, 0L, 1L), subList);
+            assertEquals(Arrays.asList(5L, 2L, 6L, 0L, 1L, 3L, 4L), list);
+
+            subList.subList(1, 4).rotate(-1);
+
+            assertEquals(Arrays.asList(2L, 0L, 1L, 6L), subList);
+            assertEquals(Arrays.asList(5L, 2L, 0L, 1L, 6L, 3L, 4L), list);
+        }
+    }
+
+    @Test
+    public void testElementSizeMismatch() throws IOException {
+        File file = folder.newFile();
+        open(file).close();
+
+        try {
+            new MappedRotableList<>(file.toPath(),
+                                    ElementCodec.INTEGER,
+                                    MappedRotableList.SyncPolicy.MANUAL);
+            fail("The element size mismatch should have been detected.");
+        } catch (IOException ex) {
+
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package net.coderodde.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class OffHeapRotableListTest {
+
+    private final OffHeapRotableList<Long> list = 
+            new OffHeapRotableList<>(ElementCodec.LONG);
+
+    @After
+    public void after() {
+        list.close();
+    }
+
+    private void load(int n) {
+        for (long i = 0; i < n; ++i) {
+            list.add(i);
+        }
+    }
+
+    @Test
+    public void testGetSetAndRotate() {
+        load(5);
+        list.rotate(2); // 3, 4, 0, 1, 2
+
+        assertEquals(Arrays.asList(3L, 4L, 0L, 1L, 2L), list);
+        assertEquals(Long.valueOf(0L), list.set(2, 10L));
+        assertEquals(Long.valueOf(10L), list.get(2));
+    }
+
+    @Test
+    public void testAgainstArrayList() {
+        Random random = new Random(17L);
+        List<Long> list2 = new ArrayList<>();
+
+        for (long iteration = 0; iteration < 2000; ++iteration) {
+            int size = list2.size();
+            int choice = random.nextInt(3);
+
+            if (choice == 0) {
+                int index = random.nextInt(size + 1);
+                list.add(index, iteration);
+                list2.add(index, iteration);
+            } else if (choice == 1 && size > 0) {
+                int index = random.nextInt(size);
+                assertEquals(list2.remove(index), list.remove(index));
+            } else if (size > 0) {
+                int offset = random.nextInt(2 * size + 1) - size;
+                list.rotate(offset);
+                Collections.rotate(list2, offset);
+            }
+
+            assertEquals(list2, list);
+        }
+
+        list.trimToSize();
+        assertEquals(list2, list);
+    }
+
+    @Test
+    public void testRotationInvalidatesIterators() {
+        load(5);
+        Iterator<Long> iterator = list.iterator();
+        iterator.next();
+        list.rotate(1);
+
+        try {
+            iterator.next();
+            fail("Rotation should invalidate the iterator.");
+        } catch (ConcurrentModificationException ex) {
+        }
+    }
+
+    @Test
+    public void testSubListRotate() {
+        load(7);
+        list.rotate(2); // 5, 6, 0, 1, 2, 3, 4
+        RotableList<Long> subList = list.subList(1, 5); // 6, 0, 1, 2
+        subList.rotate(1);
+
+        assertEquals(Arrays.asList(2L, 6L, 0L, 1L), subList);
+        assertEquals(Arrays.asList(5L, 2L, 6L, 0L, 1L, 3L, 4L), list);
+
+        subList.subList(1, 4).rotate(-1);
+
+        assertEquals(Arrays.asList(2L, 0L, 1L, 6L), subList);
+        assertEquals(Arrays.asList(5L, 2L, 0L, 1L, 6L, 3L, 4L), list);
+    }
+
+    @Test
+    public void testCustomCodec() {
+        ElementCodec<int[]> codec = new ElementCodec<int[]>() {
+            
+            @Override
+            public int elementSize() {
+                return 3 * Integer.BYTES;
+            }
+
+            @Override
+            public void encode(int[] element, ByteBuffer buffer, int offset) {
+                for (int i = 0; i < 3; ++i) {
+                    buffer.putInt(offset + i * Integer.BYTES, element[i]);
+                }
+            }
+
+            @Override
+            public int[] decode(ByteBuffer buffer, int offset) {
+                int[] element = new int[3];
+                
+                for (int i = 0; i < 3; ++i) {
+                    element[i] = buffer.getInt(offset + i * Integer.BYTES);
+                }
+                
+                return element;
+            }
+        };
+        
+        try (OffHeapRotableList<int[]> points = 
+                new OffHeapRotableList<>(codec)) {
+            for (int i = 0; i < 20; ++i) {
+                points.add(new int[]{ i, -i, 2 * i });
+            }
+            
+            points.rotate(-5);
+            points.add(0, new int[]{ 100, 200, 300 });
+            
+            assertArrayEquals(new int[]{ 100, 200, 300 }, points.get(0));
+            assertArrayEquals(new int[]{ 5, -5, 10 }, points.get(1));
+            assertArrayEquals(new int[]{ 4, -4, 8 }, points.get(20));
+        }
+    }
+
+    @Test
+    public void testClose() {
+        load(3);
+        list.close();
+        
+        assertTrue(list.isClosed());
+        
+        try {
+            list.get(0);
+            fail("A closed list should throw IllegalStateException.");
+        } catch (IllegalStateException ex) {
+            
+        }
+        
+        list.close();
+    }
+}
@@ -0,0 +1,76 @@
+package net.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PersistentRotableListTest {
+
+    @Test
+    public void testAgainstArrayList() {
+        PersistentRotableList<Integer> list = PersistentRotableList.empty();
+        List<Integer> reference = new ArrayList<>();
+        Random random = new Random(29L);
+
+        for (int step = 0; step < 5_000; ++step) {
+            int size = reference.size();
+            int operation = random.nextInt(5);
+
+            if (operation == 0 || size == 0) {
+                int index = random.nextInt(size + 1);
+                list = list.plus(index, step);
+                reference.add(index, step);
+            } else if (operation == 1) {
+                int index = random.nextInt(size);
+                list = list.minus(index);
+                reference.remove(index);
+            } else if (operation == 2) {
+                int offset = random.nextInt(2 * size + 1) - size;
+                list = list.rotated(offset);
+                Collections.rotate(reference, offset);
+            } else if (operation == 3) {
+                int index = random.nextInt(size);
+                list = list.with(index, -step);
+                reference.set(index, -step);
+            } else {
+                list = list.plus(step);
+                reference.add(step);
+            }
+
+            assertEquals(reference.size(), list.size());
+        }
+
+        assertEquals(reference, list);
+        assertEquals(reference, Arrays.asList(list.toArray()));
+    }
+
+    @Test
+    public void testOldVersionsAreUnchanged() {
+        List<Integer> source = new ArrayList<>();
+
+        for (int i = 0; i < 100; ++i) {
+            source.add(i);
+        }
+
+        PersistentRotableList<Integer> list =
+                PersistentRotableList.copyOf(source);
+        PersistentRotableList<Integer> rotated = list.rotated(3);
+        PersistentRotableList<Integer> changed =
+                rotated.with(0, -1).minus(1).plus(0, -2);
+
+        assertEquals(source, list);
+        assertEquals(Integer.valueOf(97), rotated.get(0));
+        assertEquals(Integer.valueOf(0), rotated.get(3));
+        assertEquals(Arrays.asList(-2, -1, 99, 0), changed.subList(0, 4));
+        assertEquals(source, rotated.rotated(-3));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testListMutatorsAreUnsupported() {
+        PersistentRotableList.<Integer>empty().plus(1).add(2);
+    }
+}
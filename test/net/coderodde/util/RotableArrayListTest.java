@@ -1,12 +1,21 @@
 package net.coderodde.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -70,6 +79,13 @@ public class RotableArrayListTest {
         assertEquals(Integer.valueOf(2), list.get(1));
         assertEquals(Integer.valueOf(1), list.get(2));
         assertEquals(Integer.valueOf(0), list.get(3));
+        
+        list.rotate(1); // 0, 3, 2, 1
+        
+        assertEquals(Integer.valueOf(0), list.set(0, 10));
+        assertEquals(Integer.valueOf(1), list.set(3, 11));
+        assertEquals(Integer.valueOf(10), list.get(0));
+        assertEquals(Integer.valueOf(11), list.get(3));
     }
 
     @Test
@@ -545,6 +561,446 @@ public class RotableArrayListTest {
         assertEquals(Integer.valueOf(6), list.get(4));
     }
     
+    @Test
+    public void testFrontAndBackOperationsOnRotatedList() {
+        load(6);
+        list.rotate(2); // 4, 5, 0, 1, 2, 3
+        list.add(0, 10);
+        list.add(11);
+        
+        assertEquals(8, list.size());
+        assertEquals(Integer.valueOf(10), list.get(0));
+        assertEquals(Integer.valueOf(4),  list.get(1));
+        assertEquals(Integer.valueOf(11), list.get(7));
+        
+        assertEquals(Integer.valueOf(10), list.remove(0));
+        assertEquals(Integer.valueOf(11), list.remove(list.size() - 1));
+        assertTrue(listsEqual(list, Arrays.asList(4, 5, 0, 1, 2, 3)));
+    }
+    
+    @Test
+    public void testRotateFullRing() {
+        load(8);
+        list.rotate(3); // 5, 6, 7, 0, 1, 2, 3, 4
+        list.add(0, 10);
+        
+        assertTrue(listsEqual(list, Arrays.asList(10, 5, 6, 7, 0, 1, 2, 3, 4)));
+    }
+    
+    @Test
+    public void testRotateEmptyList() {
+        list.rotate(3);
+        list.rotate(-3);
+        assertTrue(list.isEmpty());
+    }
+    
+    @Test
+    public void testEnsureCapacityAndTrimToSize() {
+        load(20);
+        list.rotate(7);
+        list.ensureCapacity(1000);
+        list.rotate(-3);
+        list.trimToSize();
+        
+        List<Integer> list2 = new ArrayList<>();
+        
+        for (int i = 0; i < 20; ++i) {
+            list2.add(i);
+        }
+        
+        Collections.rotate(list2, 4);
+        assertTrue(listsEqual(list, list2));
+    }
+    
+    @Test
+    public void testAgainstArrayList() {
+        Random random = new Random(13L);
+        List<Integer> list2 = new ArrayList<>();
+        
+        for (int iteration = 0; iteration < 5000; ++iteration) {
+            int size = list2.size();
+            
+            switch (random.nextInt(4)) {
+                case 0: {
+                    int index = random.nextInt(size + 1);
+                    list.add(index, iteration);
+                    list2.add(index, iteration);
+                    break;
+                }
+                
+                case 1: {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        assertEquals(list2.remove(index), list.remove(index));
+                    }
+                    
+                    break;
+                }
+                
+                case 2: {
+                    if (size > 0) {
+                        int offset = random.nextInt(2 * size + 1) - size;
+                        list.rotate(offset);
+                        Collections.rotate(list2, offset);
+                    }
+                    
+                    break;
+                }
+                
+                case 3: {
+                    int index = random.nextInt(size + 1);
+                    List<Integer> coll = 
+                            Arrays.asList(iteration, -iteration, iteration);
+                    list.addAll(index, coll);
+                    list2.addAll(index, coll);
+                    break;
+                }
+            }
+            
+            assertTrue(listsEqual(list, list2));
+        }
+    }
+    
+    @Test
+    public void testStream() {
+        load(10);
+        list.rotate(4); // 6, 7, 8, 9, 0, 1, 2, 3, 4, 5
+        
+        assertEquals(45, list.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(listsEqual(Arrays.asList(6, 7, 8, 9, 0, 1, 2, 3, 4, 5),
+                              list.stream().collect(Collectors.toList())));
+    }
+    
+    @Test
+    public void testParallelStream() {
+        load(100_000);
+        list.remove(0);
+        list.rotate(-31_337);
+        
+        List<Integer> list2 = new ArrayList<>(list.size());
+        
+        for (int i = 0; i < list.size(); ++i) {
+            list2.add(list.get(i));
+        }
+        
+        assertEquals(list2, list.parallelStream()
+                                .map(i -> i)
+                                .collect(Collectors.toList()));
+    }
+    
+    @Test
+    public void testSpliteratorSplit() {
+        load(10);
+        list.remove(0);
+        list.rotate(3); // 7, 8, 9, 1, 2, 3, 4, 5, 6
+        
+        Spliterator<Integer> spliterator = list.spliterator();
+        
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(9, spliterator.estimateSize());
+        
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        List<Integer> result = new ArrayList<>();
+        
+        assertNotNull(prefix);
+        assertEquals(9, prefix.estimateSize() + spliterator.estimateSize());
+        
+        prefix.forEachRemaining(result::add);
+        assertTrue(spliterator.tryAdvance(result::add));
+        spliterator.forEachRemaining(result::add);
+        assertFalse(spliterator.tryAdvance(result::add));
+        
+        assertTrue(listsEqual(Arrays.asList(7, 8, 9, 1, 2, 3, 4, 5, 6), 
+                              result));
+    }
+    
+    @Test
+    public void testSubList() {
+        load(10);
+        list.rotate(3); // 7, 8, 9, 0, 1, 2, 3, 4, 5, 6
+        
+        List<Integer> subList = list.subList(2, 6); // 9, 0, 1, 2
+        
+        assertTrue(listsEqual(Arrays.asList(9, 0, 1, 2), subList));
+        assertEquals(Integer.valueOf(0), subList.set(1, 10));
+        assertEquals(Integer.valueOf(10), list.get(3));
+        
+        subList.add(0, 11);
+        subList.remove(Integer.valueOf(1));
+        
+        assertTrue(listsEqual(Arrays.asList(11, 9, 10, 2), subList));
+        assertTrue(listsEqual(Arrays.asList(7, 8, 11, 9, 10, 2, 3, 4, 5, 6),
+                              list));
+        
+        subList.subList(1, 3).clear();
+        
+        assertTrue(listsEqual(Arrays.asList(11, 2), subList));
+        assertTrue(listsEqual(Arrays.asList(7, 8, 11, 2, 3, 4, 5, 6), list));
+        
+        list.add(100);
+        
+        try {
+            subList.get(0);
+            fail("The sublist should have detected concurrent modification.");
+        } catch (ConcurrentModificationException ex) {
+            
+        }
+    }
+    
+    @Test
+    public void testSubListClear() {
+        load(20);
+        list.rotate(-5); // 5, 6, ..., 19, 0, 1, 2, 3, 4
+        list.subList(3, 17).clear();
+        
+        assertTrue(listsEqual(Arrays.asList(5, 6, 7, 2, 3, 4), list));
+        
+        list.subList(0, 2).clear();
+        
+        assertTrue(listsEqual(Arrays.asList(7, 2, 3, 4), list));
+    }
+    
+    @Test
+    public void testSubListRotate() {
+        load(8);
+        list.remove(7);
+        list.rotate(2); // 5, 6, 0, 1, 2, 3, 4
+        
+        RotableList<Integer> subList = list.subList(1, 5); // 6, 0, 1, 2
+        subList.rotate(1);
+        
+        assertTrue(listsEqual(Arrays.asList(2, 6, 0, 1), subList));
+        assertTrue(listsEqual(Arrays.asList(5, 2, 6, 0, 1, 3, 4), list));
+        
+        subList.rotate(-6);
+        
+        assertTrue(listsEqual(Arrays.asList(0, 1, 2, 6), subList));
+        assertTrue(listsEqual(Arrays.asList(5, 0, 1, 2, 6, 3, 4), list));
+        
+        list.subList(0, list.size()).rotate(1);
+        
+        assertTrue(listsEqual(Arrays.asList(4, 5, 0, 1, 2, 6, 3), list));
+    }
+    
+    @Test
+    public void testSubListRotateInvalidatesOthers() {
+        load(8);
+        RotableList<Integer> outer = list.subList(1, 7);
+        RotableList<Integer> inner = outer.subList(1, 4); // 2, 3, 4
+        RotableList<Integer> sibling = list.subList(0, 2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+
+        inner.rotate(1);
+
+        assertEquals(Arrays.asList(4, 2, 3), inner);
+        assertEquals(Arrays.asList(1, 4, 2, 3, 5, 6), outer);
+        assertEquals(Arrays.asList(0, 1, 4, 2, 3, 5, 6, 7), list);
+
+        try {
+            iterator.next();
+            fail("Rotating a view should invalidate the list iterators.");
+        } catch (ConcurrentModificationException ex) {
+        }
+
+        try {
+            sibling.get(0);
+            fail("Rotating a view should invalidate the sibling views.");
+        } catch (ConcurrentModificationException ex) {
+        }
+    }
+
+    @Test
+    public void testSubListBulkRemovalAgainstArrayList() {
+        Random random = new Random(41L);
+
+        for (int iteration = 0; iteration < 300; ++iteration) {
+            RotableArrayList<Integer> rotable = new RotableArrayList<>();
+            List<Integer> reference = new ArrayList<>();
+            int size = random.nextInt(40);
+
+            for (int i = 0; i < size; ++i) {
+                Integer value = random.nextInt(8);
+                rotable.add(0, value);
+                reference.add(0, value);
+            }
+
+            int offset = random.nextInt(size + 1);
+            rotable.rotate(offset);
+            Collections.rotate(reference, offset);
+            int from = random.nextInt(size + 1);
+            int to = from + random.nextInt(size - from + 1);
+            List<Integer> rotableView = rotable.subList(from, to);
+            List<Integer> referenceView = reference.subList(from, to);
+
+            if (random.nextBoolean() && to > from) {
+                // Exercise the nested views as well.
+                int innerFrom = random.nextInt(to - from + 1);
+                int innerTo = innerFrom +
+                              random.nextInt(to - from - innerFrom + 1);
+                rotableView = rotableView.subList(innerFrom, innerTo);
+                referenceView = referenceView.subList(innerFrom, innerTo);
+            }
+
+            List<Integer> values = Arrays.asList(random.nextInt(8),
+                                                 random.nextInt(8));
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(referenceView.removeAll(values),
+                                 rotableView.removeAll(values));
+                    break;
+
+                case 1:
+                    assertEquals(referenceView.retainAll(values),
+                                 rotableView.retainAll(values));
+                    break;
+
+                default:
+                    assertEquals(referenceView.removeIf(i -> i % 2 == 0),
+                                 rotableView.removeIf(i -> i % 2 == 0));
+            }
+
+            assertEquals(referenceView, rotableView);
+            assertEquals(referenceView.size(), rotableView.size());
+            assertEquals(reference, rotable);
+        }
+    }
+
+    @Test
+    public void testSubListRemoveIfStaysInRange() {
+        load(10);
+        list.rotate(3); // 7, 8, 9, 0, 1, 2, 3, 4, 5, 6
+        List<Integer> outer = list.subList(1, 9);
+        List<Integer> view = outer.subList(1, 6); // 9, 0, 1, 2, 3
+        List<Integer> sibling = list.subList(0, 2);
+        List<Integer> tested = new ArrayList<>();
+
+        assertTrue(view.removeIf(i -> tested.add(i) && i % 3 == 0));
+
+        assertEquals(Arrays.asList(9, 0, 1, 2, 3), tested);
+        assertEquals(Arrays.asList(1, 2), view);
+        assertEquals(Arrays.asList(8, 1, 2, 4, 5), outer);
+        assertEquals(Arrays.asList(7, 8, 1, 2, 4, 5, 6), list);
+        assertFalse(view.removeIf(i -> i > 2));
+        assertEquals(Arrays.asList(8, 1, 2, 4, 5), outer);
+
+        try {
+            sibling.get(0);
+            fail("Removing through a view should invalidate the siblings.");
+        } catch (ConcurrentModificationException ex) {
+        }
+
+        try {
+            view.removeIf(i -> {
+                if (i == 2) {
+                    throw new IllegalStateException();
+                }
+
+                return true;
+            });
+
+            fail("The filter should have thrown.");
+        } catch (IllegalStateException ex) {
+        }
+
+        // The elements the filter did not get to stay in the list.
+        assertEquals(Arrays.asList(7, 8, 2, 4, 5, 6), list);
+    }
+
+    @Test
+    public void testRemoveIf() {
+        load(10);
+        list.rotate(3); // 7, 8, 9, 0, 1, 2, 3, 4, 5, 6
+        
+        assertTrue(list.removeIf(i -> i % 2 == 0));
+        assertTrue(listsEqual(Arrays.asList(7, 9, 1, 3, 5), list));
+        assertFalse(list.removeIf(i -> i > 100));
+        
+        list.add(0, 11);
+        
+        assertTrue(listsEqual(Arrays.asList(11, 7, 9, 1, 3, 5), list));
+    }
+    
+    @Test
+    public void testRemoveIfFilterThrows() {
+        load(10);
+        list.rotate(-4); // 4, 5, 6, 7, 8, 9, 0, 1, 2, 3
+        
+        try {
+            list.removeIf(i -> {
+                if (i == 0) {
+                    throw new IllegalStateException();
+                }
+                
+                return i % 2 == 1;
+            });
+            
+            fail("The filter should have thrown.");
+        } catch (IllegalStateException ex) {
+            
+        }
+        
+        assertTrue(listsEqual(Arrays.asList(4, 6, 8, 0, 1, 2, 3), list));
+    }
+    
+    @Test
+    public void testRemoveAllAndRetainAllWithLists() {
+        load(10);
+        list.rotate(5); // 5, 6, 7, 8, 9, 0, 1, 2, 3, 4
+        
+        assertTrue(list.removeAll(Arrays.asList(9, 0, 1, 2, 3, 4)));
+        assertFalse(list.removeAll(Arrays.asList(9, 0)));
+        assertTrue(listsEqual(Arrays.asList(5, 6, 7, 8), list));
+        
+        assertTrue(list.retainAll(Arrays.asList(8, 6)));
+        assertTrue(listsEqual(Arrays.asList(6, 8), list));
+        assertFalse(list.retainAll(Arrays.asList(8, 6)));
+        
+        assertTrue(list.retainAll(Arrays.asList()));
+        assertTrue(list.isEmpty());
+    }
+    
+    @Test
+    public void testToArrayWithGenerator() {
+        load(10);
+        list.remove(0);
+        list.rotate(2); // 8, 9, 1, 2, 3, 4, 5, 6, 7
+        
+        Integer[] array = list.toArray(Integer[]::new);
+        
+        assertArrayEquals(new Integer[]{ 8, 9, 1, 2, 3, 4, 5, 6, 7 }, array);
+    }
+    
+    @Test
+    public void testToString() {
+        assertEquals("[]", list.toString());
+        
+        load(5);
+        list.rotate(2);
+        
+        assertEquals("[3, 4, 0, 1, 2]", list.toString());
+    }
+    
+    @Test
+    public void testEqualsAndHashCode() {
+        load(10);
+        list.remove(0);
+        list.rotate(-3); // 4, 5, 6, 7, 8, 9, 1, 2, 3
+        
+        List<Integer> list2 = Arrays.asList(4, 5, 6, 7, 8, 9, 1, 2, 3);
+        
+        assertTrue(list.equals(list2));
+        assertTrue(list2.equals(list));
+        assertEquals(list2.hashCode(), list.hashCode());
+        
+        assertFalse(list.equals(Arrays.asList(4, 5, 6, 7, 8, 9, 1, 2, 4)));
+        assertFalse(list.equals(Arrays.asList(4, 5, 6)));
+        assertFalse(list.equals(new HashSet<>(list2)));
+    }
+    
     private boolean listsEqual(List<Integer> list, List<Integer> list2) {
         if (list.size() != list2.size()) {
             return false;
@@ -558,4 +1014,980 @@ public class RotableArrayListTest {
         
         return true;
     }
+
+    @Test
+    public void testNextRoundRobin() {
+        load(3);
+        list.rotate(1);
+
+        assertEquals(Integer.valueOf(2), list.nextRoundRobin());
+        assertEquals(Integer.valueOf(0), list.nextRoundRobin());
+        assertEquals(Integer.valueOf(1), list.nextRoundRobin());
+        assertEquals(Integer.valueOf(2), list.nextRoundRobin());
+        assertEquals(Arrays.asList(0, 1, 2), list);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextRoundRobinOnEmptyList() {
+        list.nextRoundRobin();
+    }
+
+    @Test
+    public void testRotateAndGet() {
+        load(5);
+
+        assertEquals(Integer.valueOf(3), list.rotateAndGet(2));
+        assertEquals(Integer.valueOf(1), list.rotateAndGet(-3));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 0), list);
+    }
+
+    @Test
+    public void testDrainFront() {
+        load(10);
+        list.rotate(3);
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(4, list.drainFront(4, drained::add));
+        assertEquals(Arrays.asList(7, 8, 9, 0), drained);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), list);
+
+        // The action may requeue the drained elements.
+        assertEquals(2, list.drainFront(2, list::add));
+        assertEquals(Arrays.asList(3, 4, 5, 6, 1, 2), list);
+
+        assertEquals(6, list.drainFront(100, drained::add));
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.drainFront(1, drained::add));
+    }
+
+    @Test
+    public void testAddAllFromRotableArrayList() {
+        Random random = new Random(7L);
+
+        for (int iteration = 0; iteration < 200; ++iteration) {
+            RotableArrayList<Integer> target = new RotableArrayList<>();
+            RotableArrayList<Integer> source = new RotableArrayList<>();
+            int targetSize = random.nextInt(20);
+            int sourceSize = random.nextInt(20);
+
+            for (int i = 0; i < targetSize; ++i) {
+                target.add(i);
+            }
+
+            for (int i = 0; i < sourceSize; ++i) {
+                source.add(100 + i);
+            }
+
+            target.rotate(random.nextInt(targetSize + 1));
+            source.rotate(random.nextInt(sourceSize + 1));
+            List<Integer> expected = new ArrayList<>(target);
+            int index = random.nextInt(targetSize + 1);
+            expected.addAll(index, source);
+
+            assertEquals(sourceSize > 0, target.addAll(index, source));
+            assertEquals(expected, target);
+        }
+    }
+
+    @Test
+    public void testAddAllToItself() {
+        load(4);
+        list.rotate(1);
+        list.addAll(2, list);
+
+        assertEquals(Arrays.asList(3, 0, 3, 0, 1, 2, 1, 2), list);
+    }
+
+    @Test
+    public void testSortRotatedSortedList() {
+        load(10);
+        list.rotate(4);
+        list.sort(null);
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), list);
+    }
+
+    @Test
+    public void testSortIsStable() {
+        // The tail equals the head, so a mere rotation would not be stable.
+        List<int[]> pairs = new RotableArrayList<>();
+        pairs.add(new int[]{ 2, 0 });
+        pairs.add(new int[]{ 3, 1 });
+        pairs.add(new int[]{ 1, 2 });
+        pairs.add(new int[]{ 2, 3 });
+        pairs.sort((a, b) -> Integer.compare(a[0], b[0]));
+        List<Integer> order = new ArrayList<>();
+
+        for (int[] pair : pairs) {
+            order.add(pair[1]);
+        }
+
+        assertEquals(Arrays.asList(2, 0, 3, 1), order);
+    }
+
+    @Test
+    public void testSortAgainstArrayList() {
+        Random random = new Random(11L);
+
+        for (int size : new int[]{ 0, 1, 7, 100, 20_000 }) {
+            list.clear();
+            list.trimToSize();
+            List<Integer> reference = new ArrayList<>();
+
+            for (int i = 0; i < size; ++i) {
+                // Prepending wraps the ring around the end of the buffer.
+                int value = random.nextInt(1000);
+                list.add(0, value);
+                reference.add(0, value);
+            }
+
+            int offset = random.nextInt(size + 1);
+            list.rotate(offset);
+            Collections.rotate(reference, offset);
+            list.sort(Comparator.reverseOrder());
+            reference.sort(Comparator.reverseOrder());
+
+            assertEquals(reference, list);
+
+            list.parallelSort(null);
+            Collections.sort(reference);
+
+            assertEquals(reference, list);
+        }
+    }
+
+    @Test
+    public void testBinarySearch() {
+        for (int i = 0; i < 10; ++i) {
+            list.add(2 * i);
+        }
+
+        list.rotate(3);
+        list.sort(null);
+
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(i, list.binarySearch(2 * i, null));
+            assertEquals(-(i + 1), list.binarySearch(2 * i - 1, null));
+        }
+
+        assertEquals(-11, list.binarySearch(100, Integer::compare));
+    }
+
+    @Test
+    public void testFindRotationOffset() {
+        Random random = new Random(17L);
+
+        assertEquals(0, list.findRotationOffset());
+
+        for (int iteration = 0; iteration < 500; ++iteration) {
+            list.clear();
+            int size = 1 + random.nextInt(20);
+
+            for (int i = 0; i < size; ++i) {
+                list.add(random.nextInt(5));
+            }
+
+            list.sort(null);
+            List<Integer> sorted = new ArrayList<>(list);
+            list.rotate(random.nextInt(size));
+            list.rotate(-list.findRotationOffset());
+
+            assertEquals(sorted, list);
+        }
+    }
+
+    @Test
+    public void testSearchAgainstArrayList() {
+        Random random = new Random(19L);
+
+        for (int iteration = 0; iteration < 200; ++iteration) {
+            RotableArrayList<Integer> rotable = new RotableArrayList<>();
+            List<Integer> reference = new ArrayList<>();
+            int size = random.nextInt(30);
+
+            for (int i = 0; i < size; ++i) {
+                // Values outside of the Integer cache are distinct instances,
+                // so the equality check is exercised besides the identity.
+                Integer value = random.nextInt(4) == 0 ?
+                                null :
+                                1000 + random.nextInt(10);
+                rotable.add(0, value);
+                reference.add(0, value);
+            }
+
+            int offset = random.nextInt(size + 1);
+            rotable.rotate(offset);
+            Collections.rotate(reference, offset);
+            int from = random.nextInt(size + 1);
+            int to = from + random.nextInt(size - from + 1);
+
+            for (Integer value : Arrays.asList(null, 1000, 1003, 1007, 11)) {
+                assertEquals(reference.indexOf(value),
+                             rotable.indexOf(value));
+                assertEquals(reference.lastIndexOf(value),
+                             rotable.lastIndexOf(value));
+                assertEquals(reference.contains(value),
+                             rotable.contains(value));
+                assertEquals(reference.subList(from, to).indexOf(value),
+                             rotable.subList(from, to).indexOf(value));
+                assertEquals(reference.subList(from, to).lastIndexOf(value),
+                             rotable.subList(from, to).lastIndexOf(value));
+            }
+        }
+    }
+
+    @Test
+    public void testForEachAndReplaceAllInLogicalOrder() {
+        for (int i = 0; i < 12; ++i) {
+            list.add(0, 11 - i);
+        }
+
+        list.rotate(5);
+        List<Integer> expected = new ArrayList<>(list);
+        List<Integer> seen = new ArrayList<>();
+        list.forEach(seen::add);
+
+        assertEquals(expected, seen);
+
+        List<Integer> order = new ArrayList<>();
+        list.replaceAll(x -> {
+            order.add(x);
+            return -x;
+        });
+
+        assertEquals(expected, order);
+
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(Integer.valueOf(-expected.get(i)), list.get(i));
+        }
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testForEachDetectsModification() {
+        load(5);
+        list.forEach(x -> list.rotate(1));
+    }
+
+    @Test
+    public void testWindowOverwritesOldest() {
+        List<Integer> evicted = new ArrayList<>();
+        list.setWindowSize(5, evicted::add);
+
+        for (int i = 0; i < 12; ++i) {
+            list.add(i);
+        }
+
+        assertEquals(5, list.getWindowSize());
+        assertEquals(Arrays.asList(7, 8, 9, 10, 11), list);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6), evicted);
+
+        list.addAll(Arrays.asList(12, 13));
+        list.trimToSize();
+
+        assertEquals(Arrays.asList(9, 10, 11, 12, 13), list);
+        assertEquals(Integer.valueOf(8), evicted.get(evicted.size() - 1));
+
+        list.remove(0);
+        list.add(1, -1);
+
+        assertEquals(Arrays.asList(10, -1, 11, 12, 13), list);
+    }
+
+    @Test
+    public void testShrinkingWindowEvictsFirstElements() {
+        load(10);
+        list.rotate(2);
+        List<Integer> evicted = new ArrayList<>();
+        list.setWindowSize(3, evicted::add);
+
+        assertEquals(Arrays.asList(8, 9, 0, 1, 2, 3, 4), evicted);
+        assertEquals(Arrays.asList(5, 6, 7), list);
+
+        list.setWindowSize(0, null);
+        list.add(8);
+
+        assertEquals(Arrays.asList(5, 6, 7, 8), list);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInsertingIntoFullWindowThrows() {
+        list.setWindowSize(3, null);
+        load(3);
+        list.add(1, 100);
+    }
+
+    @Test
+    public void testDequeAgainstArrayDeque() {
+        Deque<Integer> deque = new RotableArrayList<>();
+        Deque<Integer> reference = new ArrayDeque<>();
+        Random random = new Random(23L);
+
+        for (int step = 0; step < 5_000; ++step) {
+            switch (random.nextInt(8)) {
+                case 0:
+                    deque.addFirst(step);
+                    reference.addFirst(step);
+                    break;
+
+                case 1:
+                    deque.offerLast(step);
+                    reference.offerLast(step);
+                    break;
+
+                case 2:
+                    assertEquals(reference.pollFirst(), deque.pollFirst());
+                    break;
+
+                case 3:
+                    assertEquals(reference.pollLast(), deque.pollLast());
+                    break;
+
+                case 4:
+                    assertEquals(reference.peekFirst(), deque.peekFirst());
+                    assertEquals(reference.peekLast(), deque.peekLast());
+                    break;
+
+                case 5:
+                    deque.push(step);
+                    reference.push(step);
+                    break;
+
+                case 6:
+                    if (!reference.isEmpty()) {
+                        assertEquals(reference.pop(), deque.pop());
+                    }
+
+                    break;
+
+                default:
+                    ((RotableArrayList<Integer>) deque).rotate(step);
+                    int distance = step % Math.max(1, reference.size());
+
+                    for (int i = 0; i < distance; ++i) {
+                        reference.addFirst(reference.pollLast());
+                    }
+            }
+
+            assertEquals(reference.size(), deque.size());
+        }
+
+        assertEquals(new ArrayList<>(reference), deque);
+    }
+
+    @Test
+    public void testDescendingIterator() {
+        for (int i = 0; i < 12; ++i) {
+            list.add(0, 11 - i);
+        }
+
+        list.rotate(5); // 7, 8, 9, 10, 11, 0, 1, 2, 3, 4, 5, 6
+        List<Integer> seen = new ArrayList<>();
+        Iterator<Integer> iterator = list.descendingIterator();
+
+        while (iterator.hasNext()) {
+            Integer element = iterator.next();
+            seen.add(element);
+
+            if (element % 3 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(Arrays.asList(6, 5, 4, 3, 2, 1, 0, 11, 10, 9, 8, 7),
+                     seen);
+        assertEquals(Arrays.asList(7, 8, 10, 11, 1, 2, 4, 5), list);
+    }
+
+    @Test
+    public void testReversedIsWriteThroughView() {
+        load(10);
+        list.rotate(3);
+        RotableArrayList<Integer> reversed = list.reversed();
+
+        assertEquals(Arrays.asList(6, 5, 4, 3, 2, 1, 0, 9, 8, 7), reversed);
+        assertSame(list, reversed.reversed());
+
+        reversed.add(-1);
+        reversed.set(0, 60);
+        reversed.addFirst(-2);
+
+        assertEquals(Arrays.asList(-1, 7, 8, 9, 0, 1, 2, 3, 4, 5, 60, -2),
+                     list);
+
+        list.add(0, -3);
+
+        assertEquals(Integer.valueOf(-3), reversed.getLast());
+        assertEquals(reversed.size() - 1, reversed.indexOf(-3));
+        assertEquals("[-2, 60, 5, 4, 3, 2, 1, 0, 9, 8, 7, -1, -3]",
+                     reversed.toString());
+        assertTrue(new RotableArrayList<Integer>().reversed().isEmpty());
+    }
+
+    @Test
+    public void testReversedAgainstArrayList() {
+        RotableArrayList<Integer> reversed = list.reversed();
+        List<Integer> reference = new ArrayList<>();
+        Random random = new Random(37L);
+
+        for (int step = 0; step < 5_000; ++step) {
+            int size = reference.size();
+            int operation = random.nextInt(8);
+
+            if (operation == 0 || size == 0) {
+                int index = random.nextInt(size + 1);
+                reversed.add(index, step);
+                reference.add(size - index, step);
+            } else if (operation == 1) {
+                int index = random.nextInt(size);
+                assertEquals(reference.remove(size - 1 - index),
+                             reversed.remove(index));
+            } else if (operation == 2) {
+                int offset = random.nextInt(2 * size + 1) - size;
+                reversed.rotate(offset);
+                Collections.rotate(reference, -offset);
+            } else if (operation == 3) {
+                reversed.addFirst(step);
+                reference.add(step);
+            } else if (operation == 4) {
+                assertEquals(reference.remove(0), reversed.pollLast());
+            } else if (operation == 5) {
+                int from = random.nextInt(size + 1);
+                int to = from + random.nextInt(Math.min(3, size - from) + 1);
+                reversed.subList(from, to).clear();
+                reference.subList(size - to, size - from).clear();
+            } else if (operation == 6) {
+                int index = random.nextInt(size);
+                reversed.set(index, -step);
+                reference.set(size - 1 - index, -step);
+            } else {
+                reversed.push(step);
+                reference.add(step);
+            }
+
+            assertEquals(reference, list);
+        }
+
+        List<Integer> expected = new ArrayList<>(reference);
+        Collections.reverse(expected);
+
+        assertEquals(expected, reversed);
+        assertEquals(expected, Arrays.asList(reversed.toArray()));
+        assertEquals(expected, reversed.stream().collect(Collectors.toList()));
+        assertEquals(expected.hashCode(), reversed.hashCode());
+        assertTrue(reversed.equals(expected));
+    }
+
+    @Test
+    public void testReversedIteratorsAndSubLists() {
+        load(6);
+        list.rotate(2); // 4, 5, 0, 1, 2, 3
+        RotableArrayList<Integer> reversed = list.reversed();
+        ListIterator<Integer> iterator = reversed.listIterator(1);
+
+        assertEquals(1, iterator.nextIndex());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        iterator.remove();
+        iterator.add(20);
+        assertEquals(Integer.valueOf(20), iterator.previous());
+        assertEquals(Integer.valueOf(20), iterator.next());
+        assertEquals(2, iterator.nextIndex());
+        assertEquals(Integer.valueOf(1), iterator.next());
+        iterator.set(10);
+
+        assertEquals(Arrays.asList(4, 5, 0, 10, 20, 3), list);
+
+        RotableList<Integer> subList = reversed.subList(1, 5); // 20, 10, 0, 5
+        subList.rotate(1);
+
+        assertEquals(Arrays.asList(5, 20, 10, 0), subList);
+        assertEquals(Arrays.asList(4, 0, 10, 20, 5, 3), list);
+
+        List<Integer> seen = new ArrayList<>();
+        reversed.descendingIterator().forEachRemaining(seen::add);
+
+        assertEquals(list, seen);
+
+        Iterator<Integer> forward = reversed.iterator();
+        forward.next();
+        list.add(7);
+
+        try {
+            forward.next();
+            fail("Modifying the backing list should invalidate the view " +
+                 "iterators.");
+        } catch (ConcurrentModificationException ex) {
+        }
+    }
+
+    @Test
+    public void testReversedSortAndSearch() {
+        for (int i = 0; i < 8; ++i) {
+            list.add(i / 2);
+        }
+
+        list.rotate(3);
+        RotableArrayList<Integer> reversed = list.reversed();
+        reversed.sort(null);
+
+        assertEquals(Arrays.asList(3, 3, 2, 2, 1, 1, 0, 0), list);
+        assertEquals(Arrays.asList(0, 0, 1, 1, 2, 2, 3, 3), reversed);
+
+        int index = reversed.binarySearch(1, null);
+
+        assertTrue(index == 2 || index == 3);
+        assertEquals(-9, reversed.binarySearch(1000, null));
+        assertEquals(-1, reversed.binarySearch(-5, null));
+
+        reversed.remove(Integer.valueOf(2));
+        reversed.remove(Integer.valueOf(2)); // 0, 0, 1, 1, 3, 3
+
+        assertEquals(-5, reversed.binarySearch(2, null));
+
+        reversed.rotate(2); // 3, 3, 0, 0, 1, 1
+
+        assertEquals(2, reversed.findRotationOffset());
+
+        reversed.rotate(-reversed.findRotationOffset());
+        assertEquals(Arrays.asList(0, 0, 1, 1, 3, 3), reversed);
+
+        for (int offset = 0; offset < reversed.size(); ++offset) {
+            reversed.rotate(offset);
+            reversed.rotate(-reversed.findRotationOffset());
+            assertEquals(Arrays.asList(0, 0, 1, 1, 3, 3), reversed);
+        }
+    }
+
+    @Test
+    public void testReversedCopiesAndUnsupportedMethods() {
+        load(4);
+        RotableArrayList<Integer> reversed = list.reversed();
+        RotableArrayList<Integer> copy = reversed.clone();
+        copy.add(-1);
+
+        assertEquals(Arrays.asList(3, 2, 1, 0, -1), copy);
+        assertEquals(Arrays.asList(3, 2, 1, 0),
+                     new RotableArrayList<>(reversed));
+        assertEquals(Arrays.asList(0, 1, 2, 3), list);
+
+        try {
+            reversed.array();
+            fail("A view has no backing array.");
+        } catch (UnsupportedOperationException ex) {
+        }
+
+        try {
+            reversed.batch();
+            fail("A view does not support batches.");
+        } catch (UnsupportedOperationException ex) {
+        }
+    }
+
+    @Test
+    public void testTooLargeWindowLeavesListUnchanged() {
+        load(3);
+        list.setWindowSize(5, null);
+
+        try {
+            list.setWindowSize((1 << 30) + 1, null);
+            fail("A window larger than the maximum capacity should fail.");
+        } catch (IllegalArgumentException ex) {
+        }
+
+        assertEquals(5, list.getWindowSize());
+        list.add(3);
+        list.add(4);
+        list.add(5);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    public void testDequeOnFullWindow() {
+        list.setWindowSize(2, null);
+        list.offerLast(1);
+        list.offerLast(2);
+
+        assertFalse(list.offerFirst(0));
+        assertTrue(list.offerLast(3));
+        assertEquals(Arrays.asList(2, 3), list);
+        assertTrue(list.removeLastOccurrence(3));
+        assertEquals(Integer.valueOf(2), list.getLast());
+    }
+
+    @Test
+    public void testIteratorOnWrappedBuffer() {
+        for (int i = 0; i < 12; ++i) {
+            list.add(0, 11 - i);
+        }
+
+        list.rotate(5); // 7, 8, 9, 10, 11, 0, 1, 2, 3, 4, 5, 6
+        List<Integer> seen = new ArrayList<>();
+        Iterator<Integer> iterator = list.iterator();
+
+        for (int i = 0; i < 7; ++i) {
+            Integer element = iterator.next();
+            seen.add(element);
+
+            if (element % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        iterator.forEachRemaining(seen::add);
+
+        assertFalse(iterator.hasNext());
+        assertEquals(Arrays.asList(7, 8, 9, 10, 11, 0, 1, 2, 3, 4, 5, 6),
+                     seen);
+        assertEquals(Arrays.asList(7, 9, 11, 1, 2, 3, 4, 5, 6), list);
+
+        iterator.remove();
+
+        assertEquals(Arrays.asList(7, 9, 11, 1, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    public void testResizeInvalidatesIterators() {
+        load(10);
+        list.rotate(3);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.next();
+        list.ensureCapacity(1000);
+
+        try {
+            iterator.next();
+            fail("Growing the buffer should invalidate the iterator.");
+        } catch (ConcurrentModificationException ex) {
+        }
+
+        iterator = list.iterator();
+        iterator.next();
+        list.trimToSize();
+
+        try {
+            iterator.next();
+            fail("Trimming the buffer should invalidate the iterator.");
+        } catch (ConcurrentModificationException ex) {
+        }
+
+        assertEquals(Arrays.asList(7, 8, 9, 0, 1, 2, 3, 4, 5, 6), list);
+    }
+
+    @Test
+    public void testRemoveIfWithoutMatchKeepsIteratorsValid() {
+        load(10);
+        list.rotate(-3); // 3, 4, 5, 6, 7, 8, 9, 0, 1, 2
+        Iterator<Integer> iterator = list.iterator();
+        Iterator<Integer> descending = list.descendingIterator();
+        iterator.next();
+        iterator.next();
+        descending.next();
+
+        assertFalse(list.removeIf(x -> x > 100));
+
+        try {
+            list.removeIf(x -> {
+                throw new IllegalStateException();
+            });
+            fail("The filter should have thrown.");
+        } catch (IllegalStateException ex) {
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        iterator.forEachRemaining(seen::add);
+
+        assertEquals(Arrays.asList(5, 6, 7, 8, 9, 0, 1, 2), seen);
+
+        seen.clear();
+        descending.forEachRemaining(seen::add);
+
+        assertEquals(Arrays.asList(1, 0, 9, 8, 7, 6, 5, 4, 3), seen);
+    }
+
+    @Test
+    public void testFailedSortInvalidatesIterators() {
+        load(10);
+        list.set(5, 100);
+        list.rotate(-3); // 3, 4, 100, 6, 7, 8, 9, 0, 1, 2
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        int[] calls = { 0 };
+
+        try {
+            // Let the scan for descents pass, and fail within the sort.
+            list.sort((a, b) -> {
+                if (++calls[0] > 12) {
+                    throw new IllegalStateException();
+                }
+
+                return Integer.compare(a, b);
+            });
+            fail("The comparator should have thrown.");
+        } catch (IllegalStateException ex) {
+        }
+
+        try {
+            iterator.next();
+            fail("A sort that moved the elements should invalidate " +
+                 "the iterator.");
+        } catch (ConcurrentModificationException ex) {
+        }
+    }
+
+    @Test
+    public void testResizeInvalidatesDescendingIterator() {
+        load(10);
+        list.rotate(3);
+        Iterator<Integer> iterator = list.descendingIterator();
+
+        assertEquals(Integer.valueOf(6), iterator.next());
+        assertEquals(Integer.valueOf(5), iterator.next());
+
+        list.ensureCapacity(1000);
+
+        try {
+            iterator.next();
+            fail("Growing the buffer should invalidate the iterator.");
+        } catch (ConcurrentModificationException ex) {
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        list.descendingIterator().forEachRemaining(seen::add);
+
+        assertEquals(Arrays.asList(6, 5, 4, 3, 2, 1, 0, 9, 8, 7), seen);
+    }
+
+    @Test
+    public void testNormalizeAndArray() {
+        Random random = new Random(31L);
+
+        for (int iteration = 0; iteration < 200; ++iteration) {
+            list.clear();
+            int size = random.nextInt(40);
+
+            for (int i = 0; i < size; ++i) {
+                // Prepending makes the buffer wrap around its end.
+                if (random.nextBoolean()) {
+                    list.add(0, i);
+                } else {
+                    list.add(i);
+                }
+            }
+
+            list.rotate(random.nextInt(size + 1));
+            List<Integer> expected = new ArrayList<>(list);
+            Object[] array = list.array();
+            int offset = list.arrayOffset();
+
+            assertSame(array, list.array());
+            assertEquals(expected,
+                         Arrays.asList(array).subList(offset, offset + size));
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void testNormalizeWrappedRingInShrunkBuffer() {
+        load(1000);
+        list.subList(0, 990).clear(); // 990, ..., 999 at the buffer end.
+
+        // Wrap around the end of the 1024-slot buffer.
+        for (int i = 0; i < 40; ++i) {
+            list.add(1000 + i);
+        }
+
+        list.rotate(3);
+        List<Integer> expected = new ArrayList<>(list);
+        list.normalize();
+        Object[] array = list.array();
+
+        assertEquals(0, list.arrayOffset());
+        assertEquals(expected, list);
+        assertEquals(expected, Arrays.asList(array).subList(0, list.size()));
+
+        for (int i = list.size(); i < array.length; ++i) {
+            assertNull(array[i]);
+        }
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testNormalizeInvalidatesIterators() {
+        for (int i = 0; i < 6; ++i) {
+            list.add(0, i);
+        }
+
+        list.rotate(2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.normalize();
+        iterator.next();
+    }
+
+    @Test
+    public void testBatchAgainstReference() {
+        Random random = new Random(37L);
+
+        for (int iteration = 0; iteration < 300; ++iteration) {
+            list.clear();
+            int size = random.nextInt(30);
+
+            for (int i = 0; i < size; ++i) {
+                list.add(0, i);
+            }
+
+            list.rotate(random.nextInt(size + 1));
+            List<Integer> original = new ArrayList<>(list);
+            List<List<Integer>> inserts = new ArrayList<>();
+            Integer[] sets = new Integer[size];
+            boolean[] removed = new boolean[size];
+
+            for (int i = 0; i <= size; ++i) {
+                inserts.add(new ArrayList<>());
+            }
+
+            RotableArrayList<Integer>.Batch batch = list.batch();
+
+            for (int operation = random.nextInt(20); operation > 0;
+                    --operation) {
+                int choice = random.nextInt(3);
+                int value = 1000 + operation;
+
+                if (choice == 0 || size == 0) {
+                    int index = random.nextInt(size + 1);
+                    batch.add(index, value);
+                    inserts.get(index).add(value);
+                } else {
+                    int index = random.nextInt(size);
+
+                    if (choice == 1 && !removed[index] && sets[index] == null) {
+                        batch.remove(index);
+                        removed[index] = true;
+                    } else if (!removed[index]) {
+                        batch.set(index, value);
+                        sets[index] = value;
+                    }
+                }
+            }
+
+            List<Integer> expected = new ArrayList<>();
+
+            for (int i = 0; i <= size; ++i) {
+                expected.addAll(inserts.get(i));
+
+                if (i < size && !removed[i]) {
+                    expected.add(sets[i] != null ? sets[i] : original.get(i));
+                }
+            }
+
+            batch.apply();
+
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void testBatchRejectsConflicts() {
+        load(5);
+
+        try {
+            list.batch().remove(1).set(1, 7).apply();
+            fail("Replacing a removed element should fail.");
+        } catch (IllegalStateException ex) {
+        }
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), list);
+
+        RotableArrayList<Integer>.Batch batch = list.batch().add(0, -1);
+        list.add(5);
+
+        try {
+            batch.apply();
+            fail("A stale batch should fail.");
+        } catch (ConcurrentModificationException ex) {
+        }
+    }
+
+    @Test
+    public void testEditModeAgainstArrayList() {
+        List<Integer> reference = new ArrayList<>();
+        Random random = new Random(31L);
+        list.setEditMode(true);
+        assertTrue(list.isEditMode());
+        int cursor = 0;
+
+        for (int step = 0; step < 10_000; ++step) {
+            int size = reference.size();
+            cursor = Math.max(0, Math.min(size,
+                                          cursor + random.nextInt(5) - 2));
+            int operation = random.nextInt(6);
+
+            if (operation <= 1 || size == 0) {
+                list.add(cursor, step);
+                reference.add(cursor, step);
+            } else if (operation == 2 && cursor < size) {
+                assertEquals(reference.remove(cursor), list.remove(cursor));
+            } else if (operation == 3) {
+                int offset = random.nextInt(2 * size + 1) - size;
+                list.rotate(offset);
+                Collections.rotate(reference, offset);
+            } else if (operation == 4) {
+                cursor = random.nextInt(size + 1);
+            } else {
+                list.add(step);
+                reference.add(step);
+            }
+
+            assertEquals(reference.size(), list.size());
+
+            if (step % 97 == 0) {
+                assertEquals(reference, list);
+            }
+        }
+
+        assertEquals(reference, list);
+        assertEquals(reference, Arrays.asList(list.toArray()));
+
+        list.setEditMode(false);
+        list.add(reference.size() / 2, -1);
+        reference.add(reference.size() / 2, -1);
+        assertEquals(reference, list);
+    }
+
+    @Test
+    public void testEditModeThroughListIterator() {
+        load(10);
+        list.setEditMode(true);
+        list.rotate(3);
+        List<Integer> reference = new ArrayList<>(list);
+        ListIterator<Integer> iterator = list.listIterator(4);
+        ListIterator<Integer> referenceIterator = reference.listIterator(4);
+
+        for (int i = 0; i < 20; ++i) {
+            iterator.add(100 + i);
+            referenceIterator.add(100 + i);
+
+            if (i % 3 == 0) {
+                assertEquals(referenceIterator.previous(),
+                             iterator.previous());
+                iterator.remove();
+                referenceIterator.remove();
+            }
+        }
+
+        assertEquals(reference, list);
+
+        while (iterator.hasNext()) {
+            assertEquals(referenceIterator.next(), iterator.next());
+            iterator.remove();
+            referenceIterator.remove();
+        }
+
+        assertEquals(reference, list);
+        list.rotate(-5);
+        Collections.rotate(reference, -5);
+        assertEquals(reference, list);
+        assertEquals(reference.remove(0), list.removeFirst());
+        assertEquals(reference.remove(reference.size() - 1),
+                     list.removeLast());
+        assertEquals(reference, list);
+    }
 }
@@ -0,0 +1,162 @@
+package net.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Before;
+
+public class RotableDoubleListTest {
+
+    private final RotableDoubleList list = new RotableDoubleList();
+
+    @Before
+    public void before() {
+        list.clear();
+    }
+
+    private void load(int n) {
+        for (int i = 0; i < n; ++i) {
+            list.addDouble(i);
+        }
+    }
+
+    @Test
+    public void testGetAndSet() {
+        load(5);
+        list.rotate(2); // 3, 4, 0, 1, 2
+
+        assertEquals(3.0, list.getDouble(0), 0.0);
+        assertEquals(4.0, list.getDouble(1), 0.0);
+        assertEquals(2.0, list.getDouble(4), 0.0);
+
+        assertEquals(0.0, list.setDouble(2, 10), 0.0);
+        assertEquals(10.0, list.getDouble(2), 0.0);
+    }
+
+    @Test
+    public void testAddAndRemoveOnRotatedList() {
+        load(6);
+        list.rotate(-2); // 2, 3, 4, 5, 0, 1
+        list.addDouble(0, 10);
+        list.addDouble(11);
+        list.addDouble(4, 12); // 10, 2, 3, 4, 12, 5, 0, 1, 11
+
+        assertArrayEquals(new double[]{ 10, 2, 3, 4, 12, 5, 0, 1, 11 },
+                          list.toArray(), 0.0);
+
+        assertEquals(10.0, list.removeDouble(0), 0.0);
+        assertEquals(11.0, list.removeDouble(7), 0.0);
+        assertEquals(12.0, list.removeDouble(3), 0.0);
+
+        assertArrayEquals(new double[]{ 2, 3, 4, 5, 0, 1 }, 
+                          list.toArray(), 0.0);
+    }
+
+    @Test
+    public void testIndexOfAndLastIndexOf() {
+        load(10);
+        list.addDouble(3);
+        list.rotate(4); // 7, 8, 9, 3, 0, 1, 2, 3, 4, 5, 6
+
+        assertEquals(3, list.indexOf(3));
+        assertEquals(7, list.lastIndexOf(3));
+        assertEquals(-1, list.indexOf(100));
+        assertTrue(list.contains(9));
+        assertFalse(list.contains(-1));
+    }
+
+    @Test
+    public void testSearchOnWrappedBuffer() {
+        // Prepending makes the buffer wrap around its end.
+        for (int i = 0; i < 12; ++i) {
+            list.addDouble(0, i % 4);
+        }
+
+        list.rotate(5); // 0, 3, 2, 1, 0, 3, 2, 1, 0, 3, 2, 1
+
+        assertEquals(1, list.indexOf(3));
+        assertEquals(9, list.lastIndexOf(3));
+        assertEquals(10, list.lastIndexOf(2));
+        assertEquals(-1, list.lastIndexOf(4));
+    }
+
+    @Test
+    public void testIteratorAndStream() {
+        load(10);
+        list.rotate(3); // 7, 8, 9, 0, 1, 2, 3, 4, 5, 6
+
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+
+        assertEquals(7.0, iterator.nextDouble(), 0.0);
+        assertEquals(8.0, iterator.nextDouble(), 0.0);
+        assertEquals(45.0, list.stream().sum(), 0.0);
+        assertArrayEquals(list.toArray(), 
+                          list.parallelStream().toArray(), 0.0);
+    }
+
+    @Test
+    public void testRotationInvalidatesIterators() {
+        load(5);
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+        iterator.nextDouble();
+        list.rotate(1);
+
+        try {
+            iterator.nextDouble();
+            fail("Rotation should invalidate the iterator.");
+        } catch (ConcurrentModificationException ex) {
+        }
+    }
+
+    @Test
+    public void testEqualsHashCodeAndToString() {
+        load(4);
+        list.rotate(1);
+
+        RotableDoubleList other = new RotableDoubleList();
+        other.addDouble(3);
+        other.addDouble(0);
+        other.addDouble(1);
+        other.addDouble(2);
+
+        assertEquals(other, list);
+        assertEquals(other.hashCode(), list.hashCode());
+        assertEquals(other.toString(), list.toString());
+    }
+
+    @Test
+    public void testAgainstArrayList() {
+        Random random = new Random(7L);
+        List<Double> list2 = new ArrayList<>();
+
+        for (int iteration = 0; iteration < 3000; ++iteration) {
+            int size = list2.size();
+            int choice = random.nextInt(3);
+
+            if (choice == 0) {
+                int index = random.nextInt(size + 1);
+                list.addDouble(index, iteration);
+                list2.add(index, (double) iteration);
+            } else if (choice == 1 && size > 0) {
+                int index = random.nextInt(size);
+                assertEquals((double) list2.remove(index), 
+                             list.removeDouble(index), 0.0);
+            } else if (size > 0) {
+                int offset = random.nextInt(2 * size + 1) - size;
+                list.rotate(offset);
+                Collections.rotate(list2, offset);
+            }
+
+            assertEquals(list2.size(), list.size());
+
+            for (int i = 0; i < list2.size(); ++i) {
+                assertEquals((double) list2.get(i), list.getDouble(i), 0.0);
+            }
+        }
+    }
+}
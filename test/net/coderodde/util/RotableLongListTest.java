@@ -0,0 +1,162 @@
+package net.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.Before;
+
+public class RotableLongListTest {
+
+    private final RotableLongList list = new RotableLongList();
+
+    @Before
+    public void before() {
+        list.clear();
+    }
+
+    private void load(int n) {
+        for (int i = 0; i < n; ++i) {
+            list.addLong(i);
+        }
+    }
+
+    @Test
+    public void testGetAndSet() {
+        load(5);
+        list.rotate(2); // 3, 4, 0, 1, 2
+
+        assertEquals(3L, list.getLong(0));
+        assertEquals(4L, list.getLong(1));
+        assertEquals(2L, list.getLong(4));
+
+        assertEquals(0L, list.setLong(2, 10));
+        assertEquals(10L, list.getLong(2));
+    }
+
+    @Test
+    public void testAddAndRemoveOnRotatedList() {
+        load(6);
+        list.rotate(-2); // 2, 3, 4, 5, 0, 1
+        list.addLong(0, 10);
+        list.addLong(11);
+        list.addLong(4, 12); // 10, 2, 3, 4, 12, 5, 0, 1, 11
+
+        assertArrayEquals(new long[]{ 10, 2, 3, 4, 12, 5, 0, 1, 11 },
+                          list.toArray());
+
+        assertEquals(10L, list.removeLong(0));
+        assertEquals(11L, list.removeLong(7));
+        assertEquals(12L, list.removeLong(3));
+
+        assertArrayEquals(new long[]{ 2, 3, 4, 5, 0, 1 }, 
+                          list.toArray());
+    }
+
+    @Test
+    public void testIndexOfAndLastIndexOf() {
+        load(10);
+        list.addLong(3);
+        list.rotate(4); // 7, 8, 9, 3, 0, 1, 2, 3, 4, 5, 6
+
+        assertEquals(3, list.indexOf(3));
+        assertEquals(7, list.lastIndexOf(3));
+        assertEquals(-1, list.indexOf(100));
+        assertTrue(list.contains(9));
+        assertFalse(list.contains(-1));
+    }
+
+    @Test
+    public void testSearchOnWrappedBuffer() {
+        // Prepending makes the buffer wrap around its end.
+        for (int i = 0; i < 12; ++i) {
+            list.addLong(0, i % 4);
+        }
+
+        list.rotate(5); // 0, 3, 2, 1, 0, 3, 2, 1, 0, 3, 2, 1
+
+        assertEquals(1, list.indexOf(3));
+        assertEquals(9, list.lastIndexOf(3));
+        assertEquals(10, list.lastIndexOf(2));
+        assertEquals(-1, list.lastIndexOf(4));
+    }
+
+    @Test
+    public void testIteratorAndStream() {
+        load(10);
+        list.rotate(3); // 7, 8, 9, 0, 1, 2, 3, 4, 5, 6
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+
+        assertEquals(7L, iterator.nextLong());
+        assertEquals(8L, iterator.nextLong());
+        assertEquals(45L, list.stream().sum());
+        assertArrayEquals(list.toArray(), 
+                          list.parallelStream().toArray());
+    }
+
+    @Test
+    public void testRotationInvalidatesIterators() {
+        load(5);
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        iterator.nextLong();
+        list.rotate(1);
+
+        try {
+            iterator.nextLong();
+            fail("Rotation should invalidate the iterator.");
+        } catch (ConcurrentModificationException ex) {
+        }
+    }
+
+    @Test
+    public void testEqualsHashCodeAndToString() {
+        load(4);
+        list.rotate(1);
+
+        RotableLongList other = new RotableLongList();
+        other.addLong(3);
+        other.addLong(0);
+        other.addLong(1);
+        other.addLong(2);
+
+        assertEquals(other, list);
+        assertEquals(other.hashCode(), list.hashCode());
+        assertEquals(other.toString(), list.toString());
+    }
+
+    @Test
+    public void testAgainstArrayList() {
+        Random random = new Random(7L);
+        List<Long> list2 = new ArrayList<>();
+
+        for (int iteration = 0; iteration < 3000; ++iteration) {
+            int size = list2.size();
+            int choice = random.nextInt(3);
+
+            if (choice == 0) {
+                int index = random.nextInt(size + 1);
+                list.addLong(index, iteration);
+                list2.add(index, (long) iteration);
+            } else if (choice == 1 && size > 0) {
+                int index = random.nextInt(size);
+                assertEquals((long) list2.remove(index), 
+                             list.removeLong(index));
+            } else if (size > 0) {
+                int offset = random.nextInt(2 * size + 1) - size;
+                list.rotate(offset);
+                Collections.rotate(list2, offset);
+            }
+
+            assertEquals(list2.size(), list.size());
+
+            for (int i = 0; i < list2.size(); ++i) {
+                assertEquals((long) list2.get(i), list.getLong(i));
+            }
+        }
+    }
+}
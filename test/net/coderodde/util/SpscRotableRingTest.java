@@ -0,0 +1,120 @@
+package net.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SpscRotableRingTest {
+
+    @Test
+    public void testOfferPollAndCapacity() {
+        SpscRotableRing<Integer> ring = new SpscRotableRing<>(3);
+
+        assertEquals(4, ring.capacity());
+        assertNull(ring.peek());
+        assertNull(ring.poll());
+
+        for (int i = 0; i < 4; ++i) {
+            assertTrue(ring.offer(i));
+        }
+
+        assertFalse(ring.offer(4));
+        assertEquals(4, ring.size());
+        assertEquals(Integer.valueOf(0), ring.peek());
+        assertEquals(Integer.valueOf(0), ring.poll());
+        assertTrue(ring.offer(4));
+        
+        for (int i = 1; i <= 4; ++i) {
+            assertEquals(Integer.valueOf(i), ring.poll());
+        }
+        
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    public void testGetDrainAndAdvance() {
+        SpscRotableRing<Integer> ring = new SpscRotableRing<>(8);
+
+        for (int i = 0; i < 6; ++i) {
+            ring.offer(i);
+        }
+
+        assertEquals(2, ring.advance(2));
+        assertEquals(Integer.valueOf(2), ring.get(0));
+        assertEquals(Integer.valueOf(5), ring.get(3));
+
+        try {
+            ring.get(4);
+            fail("The index should have been out of range.");
+        } catch (IndexOutOfBoundsException ex) {
+
+        }
+
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(3, ring.drain(drained::add, 3));
+        assertEquals(List.of(2, 3, 4), drained);
+        assertEquals(1, ring.advance(10));
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    public void testDrainKeepsRingConsistentWhenActionThrows() {
+        SpscRotableRing<Integer> ring = new SpscRotableRing<>(8);
+
+        for (int i = 0; i < 8; ++i) {
+            ring.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+
+        try {
+            ring.drain(e -> {
+                if (e == 2) {
+                    throw new IllegalStateException();
+                }
+
+                drained.add(e);
+            }, 8);
+            fail("The action should have thrown.");
+        } catch (IllegalStateException ex) {
+        }
+
+        assertEquals(List.of(0, 1), drained);
+        assertEquals(5, ring.size());
+        assertEquals(Integer.valueOf(3), ring.peek());
+        assertEquals(Integer.valueOf(3), ring.get(0));
+        assertEquals(Integer.valueOf(3), ring.poll());
+        assertEquals(Integer.valueOf(4), ring.poll());
+    }
+
+    @Test
+    public void testHandoff() throws InterruptedException {
+        SpscRotableRing<Integer> ring = new SpscRotableRing<>(64);
+        int count = 100_000;
+        
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; ++i) {
+                while (!ring.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+
+        producer.start();
+        
+        for (int expected = 0; expected < count;) {
+            Integer element = ring.poll();
+            
+            if (element == null) {
+                Thread.yield();
+            } else {
+                assertEquals(expected++, element.intValue());
+            }
+        }
+        
+        producer.join();
+        assertTrue(ring.isEmpty());
+    }
+}